@@ -1,27 +1,70 @@
 package com.automation.base;
 
+import com.automation.utils.CommandMetrics;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.DomBatch;
+import com.automation.utils.FormFill;
+import com.automation.utils.ObserverWait;
+import com.automation.utils.PagePerformance;
+import com.automation.utils.PageSnapshot;
+import com.automation.utils.WaitStats;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Base Page class with encapsulated common actions
- * Minimal changes for speed
+ * Sessions have no implicit wait: every wait is explicit and has its own budget,
+ * so probing for an element that is legitimately absent costs only its probe budget
  */
 public class BasePage {
 
     protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected WebDriverWait shortWait;
+    protected final Duration timeout;
     private static final int DEFAULT_TIMEOUT = 5;  // Reduced from 10 to 5
-    private static final int SHORT_TIMEOUT = 2;     // For quick checks
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-        this.shortWait = new WebDriverWait(driver, Duration.ofSeconds(SHORT_TIMEOUT));
+        this.timeout = Duration.ofSeconds(ConfigReader.getInstance().getIntProperty("wait.timeoutSeconds", DEFAULT_TIMEOUT));
+    }
+
+    /**
+     * Readiness contract - the condition that proves this page is usable
+     * Pages override this with their key element (e.g. the product grid), so the
+     * framework does not depend on the load event (pageLoadStrategy=eager/none)
+     * The default only fits pages opened by direct navigation: after a navigating click
+     * the previous document already passes it
+     * @return condition, by default the DOM has been parsed
+     */
+    protected ExpectedCondition<?> readyCondition() {
+        return webDriver -> !"loading".equals(
+                ((JavascriptExecutor) webDriver).executeScript("return document.readyState"));
+    }
+
+    /**
+     * Wait until the page's readiness condition holds
+     * Called at the end of page constructors; a page that never becomes ready
+     * is left to the test's own assertions. The document's timings are then
+     * attributed to this page object (perf.enabled)
+     */
+    protected void waitUntilReady() {
+        int readyTimeout = ConfigReader.getInstance().getIntProperty("pageReadyTimeout", 15);
+        try {
+            waitFor("ready", readyCondition(), Duration.ofSeconds(readyTimeout));
+        } catch (TimeoutException e) {
+            System.out.println(getClass().getSimpleName() + " not ready after " + readyTimeout + "s");
+        }
+        PagePerformance.capture(driver, getClass());
     }
 
     /**
@@ -30,6 +73,7 @@ public class BasePage {
     protected void click(By locator) {
         WebElement element = waitForElementToBeClickable(locator); // use returned element
         element.click();
+        pageChanged();
     }
 
     /**
@@ -39,20 +83,126 @@ public class BasePage {
         WebElement element = waitForElementToBeVisible(locator); // use returned element
         element.clear();
         element.sendKeys(value);
+        pageChanged();
     }
 
     /**
-     * Check if element is displayed
+     * Fill several fields in one round trip (form.fillMode=script)
+     * Values are set in the page with input and change events; fields listed in keyEventFields,
+     * and fields the script could not fill, are typed with type()
+     * @param values locator to value - use a LinkedHashMap, fields are filled in iteration order
+     * @param keyEventFields fields whose listeners need real key events (keydown/keypress/keyup)
+     */
+    protected void fillForm(Map<By, String> values, By... keyEventFields) {
+        Set<By> typed = new HashSet<>(Arrays.asList(keyEventFields));
+        Map<By, String> scripted = new LinkedHashMap<>();
+        values.forEach((locator, value) -> {
+            if (!typed.contains(locator)) {
+                scripted.put(locator, value);
+            }
+        });
+        if (FormFill.isEnabled()) {
+            typed.addAll(FormFill.fill(driver, scripted));
+        } else {
+            typed.addAll(scripted.keySet());
+        }
+        values.forEach((locator, value) -> {
+            if (typed.contains(locator)) {
+                type(locator, value);
+            }
+        });
+        pageChanged();
+    }
+
+    /**
+     * Check if element is displayed - for elements the test expects to be there
      */
     protected boolean isDisplayed(By locator) {
+        return visibleInSnapshot(locator) || isVisibleWithin("visible", locator, timeout);
+    }
+
+    /**
+     * Check if element is displayed within a budget
+     * Use probeBudget() for elements that are legitimately absent in some flows
+     * @param locator element locator
+     * @param budget maximum time to wait
+     * @return true if the element became visible within the budget
+     */
+    protected boolean isDisplayed(By locator, Duration budget) {
+        return visibleInSnapshot(locator) || isVisibleWithin("probe", locator, budget);
+    }
+
+    /**
+     * Positive answer from the page snapshot (snapshot.enabled=true) without a browser call
+     * A miss or an unsupported locator returns false and the caller checks the live page
+     */
+    private boolean visibleInSnapshot(By locator) {
+        if (!PageSnapshot.isEnabled()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        PageSnapshot snapshot = PageSnapshot.of(driver);
+        if (snapshot != null && Boolean.TRUE.equals(snapshot.isVisible(locator))) {
+            WaitStats.record("snapshot", System.nanoTime() - start, true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Drop the page snapshot after an action that may change the page
+     * Page objects call this after clicks and typing they do outside click()/type()
+     */
+    protected void pageChanged() {
+        PageSnapshot.invalidate(driver);
+    }
+
+    private boolean isVisibleWithin(String kind, By locator, Duration budget) {
+        try {
+            return waitForLocator(kind, locator, ObserverWait.Mode.VISIBLE, budget) != null;
+        } catch (TimeoutException | NoSuchElementException | StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Check if element is in the DOM within a budget
+     * @param locator element locator
+     * @param budget maximum time to wait
+     * @return true if the element was found within the budget
+     */
+    protected boolean isPresent(By locator, Duration budget) {
         try {
-            WebElement element = waitForElementToBeVisible(locator); // use returned element
-            return element.isDisplayed();
-        } catch (TimeoutException | NoSuchElementException e) {
+            waitForLocator("present", locator, ObserverWait.Mode.PRESENT, budget);
+            return true;
+        } catch (TimeoutException e) {
             return false;
         }
     }
 
+    /**
+     * Check that an element is gone (or hidden) within a budget
+     * @param locator element locator
+     * @param budget maximum time to wait
+     * @return true if the element is absent or invisible
+     */
+    protected boolean isAbsent(By locator, Duration budget) {
+        try {
+            waitForLocator("absent", locator, ObserverWait.Mode.ABSENT, budget);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Budget for probes of optional elements, from wait.probeMillis in config.properties
+     * @return probe budget
+     */
+    protected Duration probeBudget() {
+        return Duration.ofMillis(ConfigReader.getInstance().getIntProperty("wait.probeMillis", 750));
+    }
+
     /**
      * Get text from element
      */
@@ -65,28 +215,84 @@ public class BasePage {
      * Wait for element to be visible
      */
     protected WebElement waitForElementToBeVisible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return (WebElement) waitForLocator("visible", locator, ObserverWait.Mode.VISIBLE, timeout);
     }
 
     /**
      * Wait for element to be clickable
      */
     protected WebElement waitForElementToBeClickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return (WebElement) waitForLocator("clickable", locator, ObserverWait.Mode.CLICKABLE, timeout);
+    }
+
+    /**
+     * Wait for element to be in the DOM (visible or not)
+     */
+    protected WebElement waitForPresence(By locator) {
+        return (WebElement) waitForLocator("present", locator, ObserverWait.Mode.PRESENT, timeout);
+    }
+
+    /**
+     * Explicit wait with its own budget - every wait goes through here so that
+     * time spent in waits ending negative is reported (WaitStats)
+     * @param kind wait kind for the report
+     * @param condition condition to wait for
+     * @param budget maximum time to wait
+     * @return condition result
+     * @throws TimeoutException if the condition is not met within the budget
+     */
+    protected <T> T waitFor(String kind, ExpectedCondition<T> condition, Duration budget) {
+        return timed(kind, () -> new WebDriverWait(driver, budget).until(condition));
+    }
+
+    /**
+     * Locator wait - resolved inside the page by a MutationObserver (wait.engine=observer),
+     * or by WebDriverWait polling with the matching ExpectedCondition
+     * @return matched WebElement, or Boolean.TRUE for ABSENT
+     */
+    private Object waitForLocator(String kind, By locator, ObserverWait.Mode mode, Duration budget) {
+        return timed(kind, () -> ObserverWait.isEnabled()
+                ? ObserverWait.until(driver, locator, mode, budget)
+                : ObserverWait.poll(driver, locator, mode, budget));
+    }
+
+    private <T> T timed(String kind, Supplier<T> waitCall) {
+        long start = System.nanoTime();
+        try {
+            T result = waitCall.get();
+            long nanos = System.nanoTime() - start;
+            WaitStats.record(kind, nanos, true);
+            CommandMetrics.record("wait." + kind, nanos);
+            return result;
+        } catch (TimeoutException | NoSuchElementException | StaleElementReferenceException e) {
+            // A wait that ends in a lookup failure ended negative as well
+            long nanos = System.nanoTime() - start;
+            WaitStats.record(kind, nanos, false);
+            CommandMetrics.record("wait." + kind, nanos);
+            throw e;
+        }
     }
 
     /**
      * Scroll to element
      */
     protected void scrollToElement(By locator) {
-        WebElement element = driver.findElement(locator);
+        WebElement element = waitForPresence(locator);
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+        pageChanged();
     }
 
     /**
      * Check if element contains text
      */
     protected boolean containsText(By locator, String expectedText) {
+        if (PageSnapshot.isEnabled()) {
+            PageSnapshot snapshot = PageSnapshot.of(driver);
+            String snapshotText = snapshot == null ? null : snapshot.getText(locator);
+            if (snapshotText != null && snapshotText.toLowerCase().contains(expectedText.toLowerCase())) {
+                return true;
+            }
+        }
         try {
             String actualText = getText(locator);
             return actualText.toLowerCase().contains(expectedText.toLowerCase());
@@ -96,11 +302,50 @@ public class BasePage {
     }
 
     /**
-     * Quick element presence check
+     * Read the first match of several locators in one round trip, e.g. for a block of soft assertions
+     * No waiting - call after the page is ready
+     * @param locators element locators
+     * @return one state per locator, in the same order
+     */
+    protected List<DomBatch.ElementState> readAll(By... locators) {
+        return DomBatch.read(driver, Arrays.asList(locators));
+    }
+
+    /**
+     * Read every match of a locator (visibility, text and the given attributes) in one round trip
+     * @param locator element locator
+     * @param attributes attribute names to read
+     * @return one state per element, in document order
+     */
+    protected List<DomBatch.ElementState> readEach(By locator, String... attributes) {
+        return DomBatch.readEach(driver, locator, attributes);
+    }
+
+    /**
+     * Texts of all visible matches of a locator, in one round trip
+     * @param locator element locator
+     * @return non-empty texts in document order
+     */
+    protected List<String> getTexts(By locator) {
+        List<String> texts = new ArrayList<>();
+        for (DomBatch.ElementState state : readEach(locator)) {
+            if (!state.getText().isEmpty()) {
+                texts.add(state.getText());
+            }
+        }
+        return texts;
+    }
+
+    /**
+     * Instant element check - no waiting at all (there is no implicit wait)
      */
     protected boolean isElementPresent(By locator) {
+        if (visibleInSnapshot(locator)) {
+            return true;
+        }
         try {
-            return driver.findElement(locator).isDisplayed();
+            List<WebElement> elements = driver.findElements(locator);
+            return !elements.isEmpty() && elements.get(0).isDisplayed();
         } catch (Exception e) {
             return false;
         }
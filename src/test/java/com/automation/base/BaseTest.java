@@ -1,21 +1,34 @@
 package com.automation.base;
 
+import com.automation.pages.LoginPage;
+import com.automation.utils.AccountPool;
 import com.automation.utils.ConfigReader;
 import com.automation.utils.DriverManager;
+import com.automation.utils.LeanPage;
+import com.automation.utils.LoggedIn;
+import com.automation.utils.NavigationStats;
+import com.automation.utils.NetworkArchive;
+import com.automation.utils.Navigator;
+import com.automation.utils.PagePerformance;
+import com.automation.utils.SessionCache;
+import com.automation.utils.StepTimeline;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
+import org.testng.SkipException;
 import org.testng.annotations.*;
 
-import java.io.File;
+import java.lang.reflect.Method;
 
 /**
  * Base Test class with common setup and teardown
  * Demonstrates OOP principles: Inheritance
  * All test classes inherit from this base
+ * The driver is owned by the worker thread, so no browser state lives on the test instance
+ * Nothing is loaded up front - tests open their first page with open(), so only tests
+ * that start on the home page pay for it
  */
 public class BaseTest {
 
-    protected WebDriver driver;
     protected ConfigReader config;
 
     @BeforeClass(alwaysRun = true)
@@ -25,23 +38,66 @@ public class BaseTest {
     }
 
     @BeforeMethod(alwaysRun = true)
-    public void setupMethod() {
-        driver = DriverManager.getDriver();
-        driver.get(config.getProperty("baseUrl"));
-        System.out.println("Navigating to: " + config.getProperty("baseUrl"));
+    public void setupMethod(Method method) {
+        LoggedIn loggedIn = method.getAnnotation(LoggedIn.class);
+        if (loggedIn == null) {
+            loggedIn = getClass().getAnnotation(LoggedIn.class);
+        }
+        if (loggedIn != null && loggedIn.ownAccount() && !AccountPool.isEnabled()) {
+            throw new SkipException(method.getName() + " needs its own account - set accountPool.enabled=true");
+        }
+
+        // Lean page profile from the test method, or from the test class
+        LeanPage leanPage = method.getAnnotation(LeanPage.class);
+        if (leanPage == null) {
+            leanPage = getClass().getAnnotation(LeanPage.class);
+        }
+        if (leanPage != null) {
+            DriverManager.applyLeanProfile(leanPage);
+        }
+
+        NavigationStats.begin(getDriver());
+        NetworkArchive.beginTest(getDriver(), getClass().getSimpleName() + "." + method.getName());
+        PagePerformance.begin();
+        if (StepTimeline.isEnabled()) {
+            StepTimeline.begin(getDriver(), getClass().getSimpleName() + "." + method.getName());
+        }
+
+        // Cached login for @LoggedIn tests, before the first navigation
+        if (loggedIn != null) {
+            if (AccountPool.isEnabled()) {
+                AccountPool.getInstance().lease();
+            }
+            if (!loggedIn.uiLogin()) {
+                logIn();
+            }
+        }
     }
 
     @AfterMethod(alwaysRun = true)
     public void teardownMethod(ITestResult result) {
+        if (!DriverManager.hasDriver()) {
+            // Skipped in setup, before a browser was started
+            System.out.println("Test SKIPPED: " + result.getName());
+            return;
+        }
+        NavigationStats.end(getDriver(), getClass().getSimpleName() + "." + result.getName());
+
         if (result.getStatus() == ITestResult.FAILURE) {
             System.out.println("Test FAILED: " + result.getName());
         } else if (result.getStatus() == ITestResult.SUCCESS) {
             System.out.println("Test PASSED: " + result.getName());
         }
-        
-        // Clean up downloaded files (optional)
-        cleanupDownloads();
-        
+
+        StepTimeline.end(result.getStatus() == ITestResult.SUCCESS ? "PASSED"
+                : result.getStatus() == ITestResult.FAILURE ? "FAILED" : "SKIPPED");
+
+        // Empty the pool account's cart (in a session of its own) and return it to the pool
+        if (AccountPool.isEnabled()) {
+            AccountPool.getInstance().release();
+        }
+
+        // The session's download directory is emptied or removed with the session
         DriverManager.quitDriver();
     }
 
@@ -51,23 +107,77 @@ public class BaseTest {
     }
 
     /**
-     * Clean up downloaded files from previous test runs
+     * Log the configured account in from the session cache, or through the login page
+     * when the cache cannot provide a session (the result is cached for later tests)
      */
-    private void cleanupDownloads() {
-        try {
-            String downloadPath = System.getProperty("user.home") + "/Downloads";
-            File downloadDir = new File(downloadPath);
-            if (downloadDir.exists()) {
-                File[] files = downloadDir.listFiles((dir, name) -> name.startsWith("invoice") && name.endsWith(".txt"));
-                if (files != null) {
-                    for (File file : files) {
-                        // Optional: delete old invoice files
-                        // file.delete();
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // Ignore cleanup errors
+    private void logIn() {
+        String email = getEmail();
+        String password = getPassword();
+        if (email == null || email.isEmpty()) {
+            System.out.println("@LoggedIn ignored: no email configured");
+            return;
+        }
+        SessionCache cache = SessionCache.getInstance();
+        if (cache.restore(getDriver(), email, password)) {
+            System.out.println("Session restored for: " + email);
+            return;
+        }
+        LoginPage loginPage = open(LoginPage.class);
+        loginPage.login(email, password);
+        if (loginPage.isUserLoggedIn()) {
+            cache.capture(getDriver(), email);
         }
     }
+
+    /**
+     * Open a page directly by its @Route
+     * @param page page object class
+     * @param params values for the route's placeholders
+     * @return page object
+     */
+    protected <T> T open(Class<T> page, Object... params) {
+        return Navigator.open(getDriver(), page, params);
+    }
+
+    /**
+     * Start the next scenario step - ends the previous one on the step timeline
+     * @param name step name
+     */
+    protected void step(String name) {
+        StepTimeline.step(name);
+    }
+
+    /**
+     * Assert the page's last load in this test against its @PerfBudget
+     * @param page page object class
+     */
+    protected void assertWithinBudget(Class<?> page) {
+        PagePerformance.assertWithinBudget(page);
+    }
+
+    /**
+     * Email of the account this test logs in with - its pool account, or the configured email
+     * @return email address
+     */
+    protected String getEmail() {
+        AccountPool.Account account = AccountPool.isEnabled() ? AccountPool.getInstance().current() : null;
+        return account != null ? account.getEmail() : config.getProperty("email");
+    }
+
+    /**
+     * Password of the account this test logs in with
+     * @return password
+     */
+    protected String getPassword() {
+        AccountPool.Account account = AccountPool.isEnabled() ? AccountPool.getInstance().current() : null;
+        return account != null ? account.getPassword() : config.getProperty("password");
+    }
+
+    /**
+     * Get the driver owned by the current test thread
+     * @return WebDriver instance
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
+    }
 }
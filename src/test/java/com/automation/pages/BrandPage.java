@@ -1,9 +1,13 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.Route;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
+@Route("/brand_products/{0}")
 public class BrandPage extends BasePage {
 
     // Fixed locators for specific brands
@@ -11,9 +15,19 @@ public class BrandPage extends BasePage {
     private final By hmBrandTitle = By.xpath("//h2[@class='title text-center' and text()='Brand - H&M Products']");
     private final By productImage = By.xpath("//img[contains(@src,'/get_product_picture/')]");
     private final By viewProductButton = By.xpath("(//a[contains(text(),'View Product')])[1]");
+    private final By brandTitle = By.xpath("//h2[@class='title text-center' and starts-with(text(),'Brand - ')]");
 
     public BrandPage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    // Ready once the brand title of /brand_products is present
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.and(
+                ExpectedConditions.urlContains("/brand_products/"),
+                ExpectedConditions.presenceOfElementLocated(brandTitle));
     }
 
     // Verify Polo brand page
@@ -27,6 +41,7 @@ public class BrandPage extends BasePage {
     }
 
     // Verify brand products are displayed
+    // Works with @LeanPage(images = PLACEHOLDER): the img elements render without their real bytes
     public boolean areBrandProductsDisplayed() {
         return isDisplayed(productImage);
     }
@@ -1,21 +1,40 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.PerfBudget;
+import com.automation.utils.Route;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Cart Page - Handles cart and checkout operations
  */
+@Route("/view_cart")
+@PerfBudget(ttfbMillis = 1000, fcpMillis = 2500, lcpMillis = 3000, cls = 0.1)
 public class CartPage extends BasePage {
 
     // Encapsulated locators
     private final By proceedToCheckoutButton = By.xpath("//a[contains(@class,'check_out') and contains(text(),'Proceed To Checkout')]");
     private final By registerLoginLink = By.xpath("//u[contains(text(),'Register / Login')]");
     private final By cartProducts = By.cssSelector("tr[id^='product-']");
+    private final By cartInfo = By.id("cart_info");
+    private final By emptyCart = By.id("empty_cart");
 
     public CartPage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    /**
+     * Cart page is ready once the cart table (or the empty cart message) is present
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.or(
+                ExpectedConditions.presenceOfElementLocated(cartInfo),
+                ExpectedConditions.presenceOfElementLocated(emptyCart));
     }
 
     /**
@@ -48,7 +67,7 @@ public class CartPage extends BasePage {
         
         // Check if Register/Login link appears
         try {
-            if (isDisplayed(registerLoginLink)) {
+            if (isDisplayed(registerLoginLink, probeBudget())) {
                 click(registerLoginLink);
             }
         } catch (Exception e) {
@@ -1,12 +1,16 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.Route;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Checkout Page - Handles checkout process
  */
+@Route("/checkout")
 public class CheckoutPage extends BasePage {
 
     // Encapsulated locators
@@ -17,6 +21,15 @@ public class CheckoutPage extends BasePage {
 
     public CheckoutPage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    /**
+     * Checkout page is ready once the delivery address block is present
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.presenceOfElementLocated(deliveryAddress);
     }
 
     /**
@@ -48,7 +61,7 @@ public class CheckoutPage extends BasePage {
      */
     public void clickProceedToCheckout() {
         try {
-            if (isDisplayed(proceedToCheckoutButton)) {
+            if (isDisplayed(proceedToCheckoutButton, probeBudget())) {
                 click(proceedToCheckoutButton);
             }
         } catch (Exception e) {
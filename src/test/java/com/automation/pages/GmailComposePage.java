@@ -30,14 +30,14 @@ public class GmailComposePage {
      */
     public void composeEmail(String to, String subject, String body) {
         wait.until(ExpectedConditions.visibilityOfElementLocated(toField)).sendKeys(to);
-        driver.findElement(subjectField).sendKeys(subject);
-        driver.findElement(bodyField).sendKeys(body);
+        wait.until(ExpectedConditions.visibilityOfElementLocated(subjectField)).sendKeys(subject);
+        wait.until(ExpectedConditions.visibilityOfElementLocated(bodyField)).sendKeys(body);
     }
 
     /**
      * Send the composed email
      */
     public void sendEmail() {
-        driver.findElement(sendButton).click();
+        wait.until(ExpectedConditions.elementToBeClickable(sendButton)).click();
     }
 }
@@ -1,14 +1,21 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.PerfBudget;
+import com.automation.utils.Route;
+import com.automation.utils.SessionCache;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Home Page - Encapsulates homepage elements and actions
  * Demonstrates Encapsulation: Private locators, public methods
  */
+@Route("/")
+@PerfBudget(ttfbMillis = 1500, fcpMillis = 3000, lcpMillis = 4000, cls = 0.25)
 public class HomePage extends BasePage {
 
     // Encapsulated locators - private access
@@ -21,10 +28,18 @@ public class HomePage extends BasePage {
     private final By scrollUpButton = By.id("scrollUp");
     private final By fullFledgedText = By.xpath("//div[contains(@class,'item') and contains(@class,'active')]//h2[contains(text(),'Full-Fledged practice website')]");
     private final By signupLoginLink = By.xpath("//a[@href='/login' and contains(.,'Signup')]");
+    private final By homeSlider = By.id("slider-carousel");
 
 
     public HomePage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    /** Home page is ready once the slider is in the DOM */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.presenceOfElementLocated(homeSlider);
     }
 
     /** Verify if home page is visible */
@@ -62,6 +77,8 @@ public class HomePage extends BasePage {
     public LoginPage clickLogout() {
     waitForElementToBeClickable(logoutLink);
     click(logoutLink);
+    // Logging out ends the session on the server, so it cannot be reused
+    SessionCache.getInstance().evict(driver);
     return new LoginPage(driver);
 }
 
@@ -88,13 +105,13 @@ public class HomePage extends BasePage {
     /** Verify Full-Fledged text is visible at top */
     public boolean isFullFledgedTextVisible() {
         // Ensure the element is scrolled into view
-        ((JavascriptExecutor) driver)
-            .executeScript("arguments[0].scrollIntoView(true);", driver.findElement(fullFledgedText));
+        scrollToElement(fullFledgedText);
         return isDisplayed(fullFledgedText);
     }
 
+    /** Instant check - the header precedes the slider (the readiness contract) in the document, so it is parsed by then */
     public boolean isUserLoggedIn() {
-    return isElementPresent(logoutLink);
-}
+        return isElementPresent(logoutLink);
+    }
 
 }
@@ -1,17 +1,35 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.DownloadTracker;
+import com.automation.utils.DriverManager;
+import com.automation.utils.Invoice;
+import com.automation.utils.InvoiceParser;
+import com.automation.utils.SessionHttp;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Invoice Page - Handles invoice download and verification
+ * invoice.fetch in config.properties selects how the invoice is obtained:
+ * - browser: click the link and wait for the browser download (default)
+ * - http: GET the link's href with the session's cookies and verify the streamed body,
+ *   without the browser download pipeline or the filesystem
  */
 public class InvoicePage extends BasePage {
 
@@ -19,6 +37,16 @@ public class InvoicePage extends BasePage {
     private final By downloadInvoiceButton = By.xpath("//a[contains(@href,'/download_invoice') and contains(text(),'Download Invoice')]");
     private final By orderSuccessMessage = By.xpath("//p[contains(text(),'Congratulations! Your order has been confirmed!')]");
 
+    // File name the shop sends the invoice under (Content-Disposition)
+    private static final String INVOICE_FILE_NAME = "invoice.txt";
+
+    // Pending download started by downloadInvoice()
+    private CompletableFuture<Path> download;
+
+    // Invoice link and its response fetched by downloadInvoice() (invoice.fetch=http), body not read yet
+    private String invoiceHref;
+    private HttpResponse<InputStream> fetched;
+
     public InvoicePage(WebDriver driver) {
         super(driver);
     }
@@ -32,95 +60,134 @@ public class InvoicePage extends BasePage {
     }
 
     /**
-     * Download invoice file
+     * Download invoice file - the download is tracked from the click until the file is written
+     * With invoice.fetch=http the link's href is fetched directly instead
      */
     public void downloadInvoice() {
-        click(downloadInvoiceButton);
-
+        // The link carries the order id (/download_invoice/<id>)
+        WebElement link = waitForElementToBeClickable(downloadInvoiceButton);
+        invoiceHref = link.getAttribute("href");
+        if (isHttpFetch()) {
+            fetchInvoice();
+            return;
+        }
+        download = DownloadTracker.expect(driver, DownloadTracker.defaultTimeout());
+        link.click();
+        pageChanged();
     }
 
     /**
-     * Verify invoice file exists in downloads folder
-     * @return true if invoice file is found
+     * GET the invoice link as the browser session (cookies copied from the driver)
      */
-    public boolean isInvoiceFileDownloaded() {
-        String downloadPath = System.getProperty("user.home") + "/Downloads";
-        File downloadDir = new File(downloadPath);
-        
-        if (!downloadDir.exists()) {
-            return false;
+    private void fetchInvoice() {
+        try {
+            fetched = SessionHttp.get(driver, invoiceHref);
+        } catch (IOException e) {
+            System.out.println("Invoice fetch failed: " + e.getMessage());
+            fetched = null;
         }
-        
-        File[] files = downloadDir.listFiles((dir, name) -> name.toLowerCase().contains("invoice") && name.endsWith(".txt"));
-        return files != null && files.length > 0;
+    }
+
+    private boolean isHttpFetch() {
+        return ConfigReader.getInstance().getProperty("invoice.fetch", "browser").equalsIgnoreCase("http");
     }
 
     /**
-     * Get the latest invoice file from downloads
-     * @return File object or null if not found
+     * Wait for the download started by downloadInvoice() to finish
+     * @return path of the fully written invoice file, or null if it failed or timed out
      */
-    public File getLatestInvoiceFile() {
-        String downloadPath = System.getProperty("user.home") + "/Downloads";
-        File downloadDir = new File(downloadPath);
-        
-        if (!downloadDir.exists()) {
+    public Path waitForInvoiceFile() {
+        if (download == null) {
             return null;
         }
-        
-        File[] files = downloadDir.listFiles((dir, name) -> name.toLowerCase().contains("invoice") && name.endsWith(".txt"));
-        
-        if (files == null || files.length == 0) {
+        try {
+            return download.join();
+        } catch (CompletionException e) {
+            System.out.println("Invoice download failed: " + e.getCause());
             return null;
         }
-        
-        // Return the most recently modified file
-        File latestFile = files[0];
-        for (File file : files) {
-            if (file.lastModified() > latestFile.lastModified()) {
-                latestFile = file;
+    }
+
+    /**
+     * Verify invoice file exists in the session's download directory
+     * Waits for the tracked download when downloadInvoice() was called on this page
+     * @return true if invoice file is found
+     */
+    public boolean isInvoiceFileDownloaded() {
+        if (isHttpFetch()) {
+            if (fetched == null && invoiceHref != null) {
+                fetchInvoice();
             }
+            return fetched != null;
         }
-        
-        return latestFile;
+        return getLatestInvoiceFile() != null;
     }
 
     /**
-     * Read and verify invoice content
-     * @param expectedName expected name in invoice
-     * @param expectedText expected text in invoice
-     * @return true if invoice contains expected content
+     * Get the invoice file of this session
+     * The session has its own download directory, so the file is resolved by name - no scan
+     * @return File object or null if not found
      */
-    public boolean verifyInvoiceContent(String expectedName, String expectedText) {
-        File invoiceFile = getLatestInvoiceFile();
-        
-        if (invoiceFile == null) {
-            System.out.println("Invoice file not found!");
-            return false;
+    public File getLatestInvoiceFile() {
+        if (download != null) {
+            Path file = waitForInvoiceFile();
+            return file == null ? null : file.toFile();
         }
-        
-        try {
-            List<String> lines = Files.readAllLines(Paths.get(invoiceFile.getAbsolutePath()));
-            String content = String.join(" ", lines);
-            
-            System.out.println("Invoice Content: " + content);
-            
-            boolean hasName = content.contains(expectedName);
-            boolean hasExpectedText = content.toLowerCase().contains(expectedText.toLowerCase());
-            
-            return hasName && hasExpectedText;
-            
+        File invoiceFile = new File(DriverManager.getDownloadPath(driver), INVOICE_FILE_NAME);
+        return invoiceFile.isFile() ? invoiceFile : null;
+    }
+
+    /**
+     * Parse the invoice into its fields, streaming it from the file or the HTTP response
+     * @return parsed invoice (check isComplete()), or null if there is no invoice to read
+     */
+    public Invoice readInvoice() {
+        try (Reader reader = openInvoice()) {
+            if (reader == null) {
+                return null;
+            }
+            Invoice invoice = InvoiceParser.parse(reader, InvoiceParser.orderId(invoiceHref));
+            System.out.println("Invoice: " + invoice);
+            return invoice;
         } catch (IOException e) {
-            System.out.println("Error reading invoice file: " + e.getMessage());
-            return false;
+            System.out.println("Error reading invoice: " + e.getMessage());
+            return null;
         }
     }
 
     /**
-     * Verify specific invoice details
-     * @param expectedName expected customer name
+     * Verify specific invoice details - the greeting names the customer and an amount is present
+     * @param expectedName expected customer name, or part of it as whole words (e.g. the first name)
      * @return true if invoice is verified
      */
     public boolean verifyInvoiceDetails(String expectedName) {
-        return verifyInvoiceContent(expectedName, "Your total purchase amount");
+        Invoice invoice = readInvoice();
+        return invoice != null && invoice.isFor(expectedName) && invoice.getAmount() != null;
+    }
+
+    /**
+     * Open the invoice text - the HTTP response body (invoice.fetch=http, read once, fetched
+     * again on the next call) or the downloaded file
+     * @return reader, or null when there is no invoice
+     */
+    private BufferedReader openInvoice() throws IOException {
+        if (isHttpFetch()) {
+            if (fetched == null && invoiceHref != null) {
+                fetchInvoice();
+            }
+            if (fetched == null) {
+                System.out.println("Invoice was not fetched!");
+                return null;
+            }
+            HttpResponse<InputStream> response = fetched;
+            fetched = null;
+            return new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8));
+        }
+        File invoiceFile = getLatestInvoiceFile();
+        if (invoiceFile == null) {
+            System.out.println("Invoice file not found!");
+            return null;
+        }
+        return Files.newBufferedReader(invoiceFile.toPath(), StandardCharsets.UTF_8);
     }
 }
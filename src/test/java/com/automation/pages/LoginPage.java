@@ -1,12 +1,19 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.Route;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Login Page - Handles user authentication
  */
+@Route("/login")
 public class LoginPage extends BasePage {
 
     // Encapsulated locators for login form
@@ -19,6 +26,17 @@ public class LoginPage extends BasePage {
 
     public LoginPage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    /**
+     * Login page is ready once the login form of /login is present
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.and(
+                ExpectedConditions.urlContains("/login"),
+                ExpectedConditions.presenceOfElementLocated(loginEmailInput));
     }
 
     /**
@@ -28,8 +46,10 @@ public class LoginPage extends BasePage {
      */
     public void login(String email, String password) {
         waitForElementToBeVisible(loginEmailInput);
-        type(loginEmailInput, email);
-        type(loginPasswordInput, password);
+        Map<By, String> credentials = new LinkedHashMap<>();
+        credentials.put(loginEmailInput, email);
+        credentials.put(loginPasswordInput, password);
+        fillForm(credentials);
         click(loginButton);
 
     }
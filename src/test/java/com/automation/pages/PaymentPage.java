@@ -1,12 +1,19 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.Route;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Payment Page - Handles payment information and order confirmation
  */
+@Route("/payment")
 public class PaymentPage extends BasePage {
 
     // Encapsulated locators for payment form
@@ -21,6 +28,15 @@ public class PaymentPage extends BasePage {
 
     public PaymentPage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    /**
+     * Payment page is ready once the card form is present
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.presenceOfElementLocated(nameOnCardInput);
     }
 
     /**
@@ -33,12 +49,14 @@ public class PaymentPage extends BasePage {
      */
     public void enterPaymentDetails(String cardName, String cardNumber, String cvc, String expiryMonth, String expiryYear) {
         waitForElementToBeVisible(nameOnCardInput);
-        
-        type(nameOnCardInput, cardName);
-        type(cardNumberInput, cardNumber);
-        type(cvcInput, cvc);
-        type(expiryMonthInput, expiryMonth);
-        type(expiryYearInput, expiryYear);
+
+        Map<By, String> card = new LinkedHashMap<>();
+        card.put(nameOnCardInput, cardName);
+        card.put(cardNumberInput, cardNumber);
+        card.put(cvcInput, cvc);
+        card.put(expiryMonthInput, expiryMonth);
+        card.put(expiryYearInput, expiryYear);
+        fillForm(card);
     }
 
     /**
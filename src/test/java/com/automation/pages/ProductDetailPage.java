@@ -1,15 +1,19 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.Route;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Product Detail Page - Handles product details and review functionality
  */
+@Route("/product_details/{0}")
 public class ProductDetailPage extends BasePage {
 
     // Encapsulated locators
@@ -20,10 +24,22 @@ public class ProductDetailPage extends BasePage {
     private final By submitReviewButton = By.id("button-review");
     private final By reviewSuccessMessage = By.xpath("//span[contains(text(),'Thank you for your review.')]");
     private final By brandName = By.xpath("//p[starts-with(normalize-space(.),'Brand:')]");
+    private final By productInformation = By.cssSelector(".product-information");
 
 
     public ProductDetailPage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    /**
+     * Product detail page is ready once the product information of /product_details is present
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.and(
+                ExpectedConditions.urlContains("/product_details/"),
+                ExpectedConditions.presenceOfElementLocated(productInformation));
     }
 
     /**
@@ -44,17 +60,17 @@ public class ProductDetailPage extends BasePage {
     public void submitReview(String name, String email, String review) {
         scrollToElement(writeReviewLink);
 
-        type(reviewNameInput, name);
-        type(reviewEmailInput, email);
-        type(reviewTextArea, review);
+        Map<By, String> reviewForm = new LinkedHashMap<>();
+        reviewForm.put(reviewNameInput, name);
+        reviewForm.put(reviewEmailInput, email);
+        reviewForm.put(reviewTextArea, review);
+        fillForm(reviewForm);
         click(submitReviewButton);
 
         // Minimal wait for success toaster (to handle fast disappearing message)
-        try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(1));
-            wait.until(ExpectedConditions.visibilityOfElementLocated(reviewSuccessMessage));
+        if (isDisplayed(reviewSuccessMessage, Duration.ofSeconds(1))) {
             System.out.println("Review submitted successfully");
-        } catch (Exception e) {
+        } else {
             System.out.println("Review success message did not appear");
         }
     }
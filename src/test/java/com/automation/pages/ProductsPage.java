@@ -1,8 +1,11 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.PerfBudget;
+import com.automation.utils.Route;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.time.Duration;
@@ -11,6 +14,8 @@ import java.time.Duration;
  * Products Page - Handles product search and cart operations
  * Demonstrates Encapsulation and Single Responsibility Principle
  */
+@Route("/products")
+@PerfBudget(ttfbMillis = 1500, fcpMillis = 3000, lcpMillis = 4000, cls = 0.25, nodes = 6000)
 public class ProductsPage extends BasePage {
 
     // Encapsulated locators
@@ -32,9 +37,22 @@ public class ProductsPage extends BasePage {
     private final By brandsSection = By.xpath("//h2[text()='Brands']");
     private final By poloBrandLink = By.xpath("//a[@href='/brand_products/Polo']");
     private final By hmBrandLink = By.xpath("//a[@href='/brand_products/H&M']");
+    private final By productGrid = By.cssSelector(".features_items .product-image-wrapper");
 
     public ProductsPage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    /**
+     * Products page is ready once the product grid is present
+     * (the home page has a grid too, so the URL is checked as well)
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.and(
+                ExpectedConditions.urlContains("/products"),
+                ExpectedConditions.presenceOfElementLocated(productGrid));
     }
 
     /**
@@ -109,8 +127,8 @@ public class ProductsPage extends BasePage {
      */
     public CartPage goToCart() {
         try {
-            // Try clicking the view cart link from modal if visible
-            if (isDisplayed(viewCartLink)) {
+            // Try clicking the view cart link from modal if visible (usually closed by now)
+            if (isDisplayed(viewCartLink, probeBudget())) {
                 click(viewCartLink);
             } else {
                 click(cartLink);
@@ -1,23 +1,24 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.DomBatch;
+import com.automation.utils.Route;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.time.LocalDateTime;
-import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Test Cases Page - Handles test cases listing and extraction
  */
+@Route("/test_cases")
 public class TestCasesPage extends BasePage {
 
     // Encapsulated locators
@@ -27,6 +28,17 @@ public class TestCasesPage extends BasePage {
 
     public TestCasesPage(WebDriver driver) {
         super(driver);
+        waitUntilReady();
+    }
+
+    /**
+     * Test cases page is ready once the test case panels of /test_cases are present
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.and(
+                ExpectedConditions.urlContains("/test_cases"),
+                ExpectedConditions.presenceOfElementLocated(testCasePanels));
     }
 
     /**
@@ -40,16 +52,8 @@ public class TestCasesPage extends BasePage {
      * Get all test case titles
      */
     public List<String> getAllTestCaseTitles() {
-        List<String> testCases = new ArrayList<>();
-
-        List<WebElement> testCaseElements = driver.findElements(testCasePanels);
-        for (WebElement element : testCaseElements) {
-            String text = element.getText().trim();
-            if (!text.isEmpty()) {
-                testCases.add(text);
-            }
-        }
-        return testCases;
+        // One script for all titles instead of a getText() round trip per panel
+        return getTexts(testCasePanels);
     }
 
     /**
@@ -73,13 +77,15 @@ public class TestCasesPage extends BasePage {
             writer.write("===================================================\n\n");
 
             List<WebElement> testCaseElements = driver.findElements(testCasePanels);
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            // All titles in one script; the elements are still needed for clicking
+            List<DomBatch.ElementState> titles = DomBatch.readElements(driver, testCaseElements);
 
             int count = 1;
 
-            for (WebElement testCase : testCaseElements) {
+            for (int i = 0; i < testCaseElements.size(); i++) {
 
-                String title = testCase.getText().trim();
+                WebElement testCase = testCaseElements.get(i);
+                String title = titles.get(i).getText();
                 if (title.isEmpty()) {
                     continue;
                 }
@@ -89,14 +95,14 @@ public class TestCasesPage extends BasePage {
 
                 // Expand test case
                 testCase.click();
+                pageChanged();
 
                 // Wait until steps are visible
-                wait.until(ExpectedConditions.visibilityOfElementLocated(testCaseSteps));
-
-                List<WebElement> steps = driver.findElements(testCaseSteps);
+                waitForElementToBeVisible(testCaseSteps);
 
-                for (WebElement step : steps) {
-                    writer.write("   - " + step.getText().trim() + "\n");
+                // Steps of every expanded panel in one script (collapsed ones have no text)
+                for (String step : getTexts(testCaseSteps)) {
+                    writer.write("   - " + step + "\n");
                 }
 
                 writer.write("\n");
@@ -4,6 +4,8 @@ import com.automation.base.BaseTest;
 import com.automation.pages.HomePage;
 import com.automation.pages.LoginPage;
 import com.automation.pages.TestCasesPage;
+import com.automation.utils.LeanPage;
+import com.automation.utils.LoggedIn;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.testng.asserts.SoftAssert;
@@ -14,6 +16,8 @@ import java.io.File;
  */
 public class FileWriteTestCasesTest extends BaseTest {
 
+    @LeanPage
+    @LoggedIn
     @Test(priority = 5, description = "Extract Test Cases and Write to File")
     public void testFileWriteTestCases() {
 
@@ -22,16 +26,15 @@ public class FileWriteTestCasesTest extends BaseTest {
         System.out.println("\n========== STARTING FILE WRITE TEST CASES TEST ==========");
 
         // Step 1-2: Verify homepage
-        System.out.println("\n--- Step 1-2: Verify Homepage ---");
-        HomePage homePage = new HomePage(driver);
+        step("Step 1-2: Verify Homepage");
+        HomePage homePage = open(HomePage.class);
 
         Assert.assertTrue(homePage.isHomePageVisible(),
                 "FAILED: Home page is not visible");
         System.out.println("✓ Homepage is visible successfully");
 
         // Step 3: Click on Test Cases
-        System.out.println("\n--- Step 3: Navigate to Test Cases Page ---");
-        homePage.clickTestCases();   
+        step("Step 3: Navigate to Test Cases Page");
         TestCasesPage testCasesPage = homePage.clickTestCases();
         System.out.println("✓ Clicked on Test Cases link");
 
@@ -43,7 +46,7 @@ public class FileWriteTestCasesTest extends BaseTest {
         
 
         // Step 4-5: Extract and write test cases to file
-        System.out.println("\n--- Step 4-5: Extract and Write Test Cases ---");
+        step("Step 4-5: Extract and Write Test Cases");
         String filename = "TestCases_" + System.currentTimeMillis() + ".txt";
 
         boolean fileWritten = testCasesPage.writeTestCasesToFile(filename);
@@ -53,7 +56,7 @@ public class FileWriteTestCasesTest extends BaseTest {
         System.out.println("✓ Test cases extracted and written to file");
 
         // Step 6: Verify file exists
-        System.out.println("\n--- Step 6: Verify File Created ---");
+        step("Step 6: Verify File Created");
         String filePath = testCasesPage.getTestCasesFilePath(filename);
         File testCasesFile = new File(filePath);
 
@@ -68,8 +71,8 @@ public class FileWriteTestCasesTest extends BaseTest {
 
             LoginPage loginPage = homePage.clickSignupLogin();
             loginPage.login(
-                    config.getProperty("email"),
-                    config.getProperty("password")
+                    getEmail(),
+                    getPassword()
             );
 
             Assert.assertTrue(loginPage.isUserLoggedIn(),
@@ -78,12 +81,12 @@ public class FileWriteTestCasesTest extends BaseTest {
         }
 
         // Step 7: Click Logout
-        System.out.println("\n--- Step 7: Logout User ---");
+        step("Step 7: Logout User");
         LoginPage loginPage = homePage.clickLogout();
         System.out.println("✓ Clicked on Logout button");
 
         // Step 8: Verify user is logged out
-        System.out.println("\n--- Step 8: Verify User Logged Out ---");
+        step("Step 8: Verify User Logged Out");
         Assert.assertTrue(loginPage.isUserLoggedOut(),
                 "FAILED: User is not logged out - Login page not displayed");
         System.out.println("✓ User is successfully logged out");
@@ -0,0 +1,46 @@
+package com.automation.tests;
+
+import com.automation.base.BaseTest;
+import com.automation.pages.CartPage;
+import com.automation.pages.HomePage;
+import com.automation.pages.ProductsPage;
+import com.automation.utils.PagePerformance;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Page Performance Test - Front-end performance budgets of the main pages
+ * Kept apart from the functional scenarios: a slow site or ad fails these tests only.
+ *
+ * Test Flow (per page):
+ * 1. Open the page directly
+ * 2. Wait for the load event and measure Navigation Timing, paint, LCP and CLS
+ * 3. Assert the measurements against the page's @PerfBudget
+ */
+public class PagePerformanceTest extends BaseTest {
+
+    @DataProvider(name = "budgetedPages")
+    public Object[][] getBudgetedPages() {
+        return new Object[][] {
+            {HomePage.class},
+            {ProductsPage.class},
+            {CartPage.class}
+        };
+    }
+
+    @Test(dataProvider = "budgetedPages", description = "Verify a page loads within its performance budget")
+    public void testPageWithinBudget(Class<?> page) {
+        step("Open " + page.getSimpleName());
+        open(page);
+
+        step("Measure " + page.getSimpleName());
+        PagePerformance.measure(getDriver(), page);
+        PagePerformance.Sample sample = PagePerformance.last(page);
+        if (sample != null) {
+            System.out.println("✓ " + page.getSimpleName() + ": " + sample.getMetrics());
+        }
+
+        step("Verify " + page.getSimpleName() + " Budget");
+        assertWithinBudget(page);
+    }
+}
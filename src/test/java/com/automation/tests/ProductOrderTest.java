@@ -2,6 +2,8 @@ package com.automation.tests;
 
 import com.automation.base.BaseTest;
 import com.automation.pages.*;
+import com.automation.utils.CartSeeder;
+import com.automation.utils.LoggedIn;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -32,6 +34,9 @@ import org.testng.asserts.SoftAssert;
  * 14. Verify order confirmation
  * 15. Download invoice
  * 16. Verify invoice content
+ *
+ * This is the one test that adds products through the product grid; other checkout
+ * tests seed the cart over HTTP with CartSeeder and start at the cart.
  */
 public class ProductOrderTest extends BaseTest {
 
@@ -61,6 +66,7 @@ public class ProductOrderTest extends BaseTest {
      * Main test for complete product order flow
      * Uses both hard and soft assertions as per requirements
      */
+    @LoggedIn(uiLogin = true)
     @Test(priority = 1, description = "Complete Product Order Flow - Search, Add to Cart, Checkout, Payment, Invoice")
     public void testProductOrderCompleteFlow() {
         
@@ -70,8 +76,8 @@ public class ProductOrderTest extends BaseTest {
         System.out.println("\n========== STARTING PRODUCT ORDER TEST ==========");
         
         // Step 1 & 2: Navigate to homepage and verify
-        System.out.println("\n--- Step 1-2: Verify Homepage ---");
-        HomePage homePage = new HomePage(driver);
+        step("Step 1-2: Verify Homepage");
+        HomePage homePage = open(HomePage.class);
         
         // HARD ASSERTION - Homepage must be visible to proceed
         Assert.assertTrue(homePage.isHomePageVisible(), 
@@ -79,7 +85,7 @@ public class ProductOrderTest extends BaseTest {
         System.out.println("✓ Homepage is visible");
         
         // Step 3 & 4: Navigate to Products page and verify
-        System.out.println("\n--- Step 3-4: Navigate to Products Page ---");
+        step("Step 3-4: Navigate to Products Page");
         ProductsPage productsPage = homePage.clickProducts();
         
         // SOFT ASSERTION - Products page should be visible
@@ -88,13 +94,13 @@ public class ProductOrderTest extends BaseTest {
         System.out.println("✓ ALL PRODUCTS page is visible");
         
         // Step 5: Search for product
-        System.out.println("\n--- Step 5: Search for 'Sleeveless' Product ---");
+        step("Step 5: Search for 'Sleeveless' Product");
         String searchTerm = "Sleeveless";
         productsPage.searchProduct(searchTerm);
         System.out.println("✓ Searched for product: " + searchTerm);
         
         // Step 6: Verify searched products section
-        System.out.println("\n--- Step 6: Verify Search Results ---");
+        step("Step 6: Verify Search Results");
         
         // SOFT ASSERTION - Searched products section should be visible
         softAssert.assertTrue(productsPage.isSearchedProductsVisible(), 
@@ -107,7 +113,7 @@ public class ProductOrderTest extends BaseTest {
         System.out.println("✓ 'Sleeveless' product is visible in search results");
         
         // Step 7: Add two products to cart
-        System.out.println("\n--- Step 7: Add Two Products to Cart ---");
+        step("Step 7: Add Two Products to Cart");
         productsPage.addFirstProductToCart();
         System.out.println("✓ Added first product (ID: 3) to cart");
         
@@ -121,7 +127,7 @@ public class ProductOrderTest extends BaseTest {
         System.out.println("✓ Clicked Continue Shopping");
         
         // Step 8: Navigate to Cart
-        System.out.println("\n--- Step 8: Navigate to Cart ---");
+        step("Step 8: Navigate to Cart");
         CartPage cartPage = productsPage.goToCart();
         
         // SOFT ASSERTION - Verify products are in cart
@@ -129,12 +135,12 @@ public class ProductOrderTest extends BaseTest {
             "FAILED: No products found in cart");
         System.out.println("✓ Products are present in cart");
         
-        // Step 9-10: Proceed to checkout and login
-        System.out.println("\n--- Step 9-10: Proceed to Checkout and Login ---");
+        // Step 9-10: Proceed to checkout and login (always through the UI - login is part of this flow)
+        step("Step 9-10: Proceed to Checkout and Login");
         LoginPage loginPage = cartPage.goToLoginForCheckout();
         
-        String email = config.getProperty("email");
-        String password = config.getProperty("password");
+        String email = getEmail();
+        String password = getPassword();
         
         loginPage.login(email, password);
         System.out.println("✓ Logged in with email: " + email);
@@ -148,7 +154,7 @@ public class ProductOrderTest extends BaseTest {
         cartPage = loginPage.goToCart();
         
         // Step 11: Proceed to checkout (after login)
-        System.out.println("\n--- Step 11: Proceed to Checkout ---");
+        step("Step 11: Proceed to Checkout");
         CheckoutPage checkoutPage = cartPage.proceedToCheckout();
         
         // SOFT ASSERTION - Verify checkout page elements
@@ -157,12 +163,12 @@ public class ProductOrderTest extends BaseTest {
         System.out.println("✓ Delivery address is visible");
         
         // Step 12: Place Order
-        System.out.println("\n--- Step 12: Place Order ---");
+        step("Step 12: Place Order");
         PaymentPage paymentPage = checkoutPage.placeOrder();
         System.out.println("✓ Navigated to payment page");
         
         // Step 13: Enter payment details and confirm
-        System.out.println("\n--- Step 13: Enter Payment Details ---");
+        step("Step 13: Enter Payment Details");
         String cardName = "Tester";
         String cardNumber = "4111111111111111";
         String cvc = "123";
@@ -173,7 +179,7 @@ public class ProductOrderTest extends BaseTest {
         System.out.println("✓ Payment details entered and order confirmed");
         
         // Step 14: Verify order success
-        System.out.println("\n--- Step 14: Verify Order Confirmation ---");
+        step("Step 14: Verify Order Confirmation");
         
         // HARD ASSERTION - Order must be successful
         Assert.assertTrue(paymentPage.isOrderSuccessMessageDisplayed(), 
@@ -186,8 +192,8 @@ public class ProductOrderTest extends BaseTest {
         System.out.println("✓ Download Invoice button is visible");
         
         // Step 15: Download invoice
-        System.out.println("\n--- Step 15: Download Invoice ---");
-        InvoicePage invoicePage = new InvoicePage(driver);
+        step("Step 15: Download Invoice");
+        InvoicePage invoicePage = new InvoicePage(getDriver());
         
         // SOFT ASSERTION - Invoice download should be available
         softAssert.assertTrue(invoicePage.isInvoiceDownloadAvailable(), 
@@ -196,15 +202,8 @@ public class ProductOrderTest extends BaseTest {
         invoicePage.downloadInvoice();
         System.out.println("✓ Invoice download initiated");
         
-        // Wait for download to complete
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        
         // Step 16: Verify invoice file and content
-        System.out.println("\n--- Step 16: Verify Invoice Content ---");
+        step("Step 16: Verify Invoice Content");
         
         // SOFT ASSERTION - Invoice file should be downloaded
         softAssert.assertTrue(invoicePage.isInvoiceFileDownloaded(), 
@@ -229,8 +228,7 @@ public class ProductOrderTest extends BaseTest {
           description = "Test Product Search Functionality", enabled = false)
     public void testProductSearch(String productName) {
         
-        HomePage homePage = new HomePage(driver);
-        ProductsPage productsPage = homePage.clickProducts();
+        ProductsPage productsPage = open(ProductsPage.class);
         
         Assert.assertTrue(productsPage.isAllProductsVisible(), 
             "All Products page not visible");
@@ -247,15 +245,36 @@ public class ProductOrderTest extends BaseTest {
 
     /**
      * Separate test for payment flow with data provider
+     * Starts logged in at the cart, seeded over HTTP with the same products as the main flow
+     * Runs only with the account pool: on the shared account its payment would empty the cart
+     * that testProductOrderCompleteFlow is checking out in parallel
      */
+    @LoggedIn(ownAccount = true)
     @Test(priority = 3, dataProvider = "paymentData", 
-          description = "Test Payment Details Entry", enabled = false)
+          description = "Test Payment Details Entry")
     public void testPaymentDetailsEntry(String name, String cardNum, String cvv, String month, String year) {
         
-        // This test would require setup of cart and login first
-        // Keeping it disabled as it's covered in main flow
-        // Included to demonstrate @DataProvider usage
+        System.out.println("\n========== STARTING PAYMENT DETAILS TEST ==========");
+        
+        // Cart setup without the product grid (ids as in data-product-id)
+        CartSeeder.seed(getDriver(), 3, 19);
+        CartPage cartPage = open(CartPage.class);
+        
+        // HARD ASSERTION - Seeded products must be in the cart
+        Assert.assertTrue(cartPage.areProductsInCart(), 
+            "FAILED: Seeded products are not in cart");
+        System.out.println("✓ Cart seeded with products 3 and 19");
+        
+        CheckoutPage checkoutPage = cartPage.proceedToCheckout();
+        PaymentPage paymentPage = checkoutPage.placeOrder();
         
         System.out.println("Payment test with data: " + name + ", Card: " + cardNum);
+        paymentPage.pay(name, cardNum, cvv, month, year);
+        
+        Assert.assertTrue(paymentPage.isOrderSuccessMessageDisplayed(), 
+            "FAILED: Order success message is not displayed");
+        System.out.println("✓ Order confirmed");
+        
+        System.out.println("\n========== PAYMENT DETAILS TEST COMPLETED ==========\n");
     }
 }
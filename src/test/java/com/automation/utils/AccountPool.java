@@ -0,0 +1,298 @@
+package com.automation.utils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Account Pool - Test accounts created in parallel at suite start and leased exclusively per test
+ * Every parallel worker checks out with its own account, so no two tests share a server-side
+ * cart or address book. The account's cart is emptied when the lease ends, in a session of
+ * the account's own (the test may have logged the browser out).
+ * Accounts are created through the site's account API (POST /api/createAccount); an account
+ * left over from an earlier run ("Email already exists!") is reused only if it logs in with
+ * the pool password - on a shared site the address may belong to someone else.
+ * Demonstrates Singleton pattern and Encapsulation
+ */
+public class AccountPool {
+
+    private static volatile AccountPool instance;
+
+    private static final Pattern RESPONSE_CODE = Pattern.compile("\"responseCode\"\\s*:\\s*(\\d+)");
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final int size;
+    private final long leaseTimeoutSeconds;
+    private final LinkedBlockingQueue<Account> idle = new LinkedBlockingQueue<>();
+    private final ThreadLocal<Account> leased = new ThreadLocal<>();
+    // Written once by provision(), read without the lock by lease() and printMetrics()
+    private final List<Account> provisioned = new CopyOnWriteArrayList<>();
+    private volatile boolean provisionDone;
+
+    // Metrics
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final LongAdder cartResets = new LongAdder();
+    private volatile long provisionMillis;
+
+    /**
+     * Private constructor (Singleton pattern)
+     */
+    private AccountPool() {
+        ConfigReader config = ConfigReader.getInstance();
+        int configuredSize = config.getIntProperty("accountPool.size", 0);
+        this.size = configuredSize > 0 ? configuredSize : ParallelConfigListener.resolveThreadCount();
+        this.leaseTimeoutSeconds = config.getIntProperty("accountPool.leaseTimeoutSeconds", 300);
+    }
+
+    /**
+     * Get singleton instance
+     * @return AccountPool instance
+     */
+    public static AccountPool getInstance() {
+        if (instance == null) {
+            synchronized (AccountPool.class) {
+                if (instance == null) {
+                    instance = new AccountPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check if the account pool is enabled in config.properties
+     * @return true if tests should lease pool accounts instead of the configured email
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getInstance().getProperty("accountPool.enabled", "false"));
+    }
+
+    /**
+     * Create all pool accounts up front, in parallel
+     */
+    public synchronized void provision() {
+        if (provisionDone) {
+            return;
+        }
+        NetworkArchive.requireLive("AccountPool");
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(size, 16));
+        try {
+            List<Future<Account>> created = new ArrayList<>();
+            for (int i = 1; i <= size; i++) {
+                int number = i;
+                created.add(executor.submit(() -> create(number)));
+            }
+            for (Future<Account> future : created) {
+                try {
+                    Account account = future.get();
+                    provisioned.add(account);
+                    idle.add(account);
+                } catch (Exception e) {
+                    System.out.println("Error creating pool account: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        provisionMillis = System.currentTimeMillis() - start;
+        provisionDone = true;
+        System.out.println("Account pool provisioned " + provisioned.size() + " of " + size
+                + " accounts in " + provisionMillis + " ms");
+    }
+
+    /**
+     * Lease an account for exclusive use by the calling thread until release()
+     * @return leased account
+     */
+    public Account lease() {
+        Account current = leased.get();
+        if (current != null) {
+            return current;
+        }
+        if (!provisionDone) {
+            provision();
+        }
+        if (provisioned.isEmpty()) {
+            // Nothing will ever be returned to the pool - do not make every test wait for the lease timeout
+            throw new RuntimeException("Account pool has no accounts - provisioning failed, see the errors above");
+        }
+        long start = System.nanoTime();
+        Account account;
+        try {
+            account = idle.poll(leaseTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a pool account", e);
+        }
+        if (account == null) {
+            throw new RuntimeException("Timed out after " + leaseTimeoutSeconds + "s waiting for a pool account ("
+                    + provisioned.size() + " provisioned)");
+        }
+        long waited = System.nanoTime() - start;
+        leaseWaitNanos.add(waited);
+        maxLeaseWaitNanos.accumulateAndGet(waited, Math::max);
+        leases.increment();
+        leased.set(account);
+        return account;
+    }
+
+    /**
+     * Account leased by the calling thread
+     * @return account, or null if the thread holds no lease
+     */
+    public Account current() {
+        return leased.get();
+    }
+
+    /**
+     * Empty the account's cart and hand it back to the pool
+     * The cart is cleared with the account's own credentials over HTTP, not through the
+     * browser, whose session may be anonymous by now
+     */
+    public void release() {
+        Account account = leased.get();
+        if (account == null) {
+            return;
+        }
+        leased.remove();
+        try {
+            CartSeeder.clear(account.getEmail(), account.getPassword());
+            cartResets.increment();
+        } catch (Exception e) {
+            // A cart that could not be emptied still belongs to this account alone
+            System.out.println("Error resetting cart of " + account.getEmail() + ": " + e.getMessage());
+        } finally {
+            idle.add(account);
+        }
+    }
+
+    /**
+     * Print provisioning and lease metrics
+     */
+    public void printMetrics() {
+        System.out.println("=== Account Pool Metrics ===");
+        System.out.println("Accounts: " + provisioned.size() + " (provisioned in " + provisionMillis + " ms)"
+                + ", leases: " + leases.sum() + ", carts reset: " + cartResets.sum());
+        long count = leases.sum();
+        System.out.printf("Lease wait: avg %.1f ms, max %.1f ms%n",
+                count == 0 ? 0 : leaseWaitNanos.sum() / 1_000_000.0 / count, maxLeaseWaitNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * Create one account through the account API
+     */
+    private Account create(int number) throws IOException, InterruptedException {
+        ConfigReader config = ConfigReader.getInstance();
+        String email = config.getProperty("accountPool.emailPattern", "autotest.{user}.{n}@example.com")
+                .replace("{user}", userTag())
+                .replace("{n}", String.valueOf(number));
+        String password = config.getProperty("accountPool.password", "AutoTest#123");
+        String name = "Tester";
+
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("name", name);
+        form.put("email", email);
+        form.put("password", password);
+        form.put("title", "Mr");
+        form.put("birth_date", "1");
+        form.put("birth_month", "1");
+        form.put("birth_year", "1990");
+        form.put("firstname", name);
+        form.put("lastname", "Pool" + number);
+        form.put("company", "Automation");
+        form.put("address1", number + " Test Street");
+        form.put("address2", "");
+        form.put("country", "United States");
+        form.put("zipcode", "10001");
+        form.put("state", "New York");
+        form.put("city", "New York");
+        form.put("mobile_number", "5550100" + number);
+
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, String> field : form.entrySet()) {
+            body.append(body.length() == 0 ? "" : "&").append(field.getKey()).append('=')
+                    .append(URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8));
+        }
+        String baseUrl = config.getProperty("baseUrl").replaceAll("/+$", "");
+        HttpResponse<String> response = CLIENT.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/createAccount"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // 201 = created; 400 "Email already exists!" = left over from an earlier run, or someone else's
+        Matcher code = RESPONSE_CODE.matcher(response.body());
+        boolean created = code.find() && code.group(1).equals("201");
+        if (!created && !response.body().contains("already exists")) {
+            throw new IOException(email + ": " + response.statusCode() + " " + response.body());
+        }
+        if (!created && SessionCache.getInstance().logInOverHttp(email, password) == null) {
+            throw new IOException(email + " already exists with another password - left out of the pool");
+        }
+        return new Account(email, password);
+    }
+
+    /**
+     * {user} in accountPool.emailPattern - the OS user and a hash of user and host, so runs on
+     * one machine reuse their accounts and other users of a shared site get different ones
+     */
+    private static String userTag() {
+        String user = System.getProperty("user.name", "user");
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            host = "localhost";
+        }
+        String name = user.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "");
+        return (name.isEmpty() ? "user" : name) + "." + Integer.toHexString((user + "@" + host).hashCode());
+    }
+
+    /**
+     * Account - Credentials of one pool account
+     */
+    public static final class Account {
+
+        private final String email;
+        private final String password;
+
+        Account(String email, String password) {
+            this.email = email;
+            this.password = password;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Account Pool Listener - Creates the pool accounts at suite start
+ * and prints the pool metrics when the suite finishes
+ */
+public class AccountPoolListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (AccountPool.isEnabled()) {
+            AccountPool.getInstance().provision();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (AccountPool.isEnabled()) {
+            AccountPool.getInstance().printMetrics();
+        }
+    }
+}
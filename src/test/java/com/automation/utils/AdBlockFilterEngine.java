@@ -0,0 +1,586 @@
+package com.automation.utils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * AdBlock Filter Engine - Compiles adblock/uBlock network filter lists into
+ * an in-memory matcher used to block ad and tracker requests through CDP
+ *
+ * Supported syntax: ||host^ anchors, | anchors, * and ^ wildcards, @@ exceptions
+ * and the $third-party, $first-party, resource type, $domain= and $important options.
+ * Cosmetic filters and filters with options we cannot honour are skipped.
+ * The compiled form is cached on disk and reused while the source lists are unchanged.
+ */
+public class AdBlockFilterEngine {
+
+    private static final String DEFAULT_LISTS =
+            "src/test/resources/filters,target/test-classes/extensions/unpacked_adblock/uBlock-master/uBlock-master/assets";
+    private static final String DEFAULT_CACHE = "target/adblock/compiled-filters.txt";
+    private static final Pattern TOKEN_SPLIT = Pattern.compile("[^a-z0-9%]+");
+    private static final Pattern PURE_HOST = Pattern.compile("[a-z0-9.-]+");
+    // Options that do not narrow what a filter matches; popup, elemhide, generichide... do, so
+    // filters carrying them are dropped rather than widened into network rules
+    private static final Set<String> IGNORED_OPTIONS = new HashSet<>(Arrays.asList("match-case", "all"));
+
+    private static volatile AdBlockFilterEngine instance;
+
+    // Compact matcher: host-anchored rules by host, everything else bucketed by token
+    private final Map<String, List<NetworkFilter>> blockByHost = new HashMap<>();
+    private final Map<String, List<NetworkFilter>> blockByToken = new HashMap<>();
+    private final Map<String, List<NetworkFilter>> allowByHost = new HashMap<>();
+    private final Map<String, List<NetworkFilter>> allowByToken = new HashMap<>();
+    private final String firstPartyDomain;
+    private int filterCount;
+    private final LongAdder blocked = new LongAdder();
+
+    private AdBlockFilterEngine(String firstPartyDomain) {
+        this.firstPartyDomain = firstPartyDomain;
+    }
+
+    /**
+     * Get the engine, compiling (or loading the cached compile of) the lists on first use
+     * @return AdBlockFilterEngine instance
+     */
+    public static AdBlockFilterEngine getInstance() {
+        if (instance == null) {
+            synchronized (AdBlockFilterEngine.class) {
+                if (instance == null) {
+                    instance = load();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check a request against the compiled filters
+     * @param url request URL
+     * @param host lower-case request host
+     * @param type request resource type
+     * @return true if the request should be blocked
+     */
+    public boolean shouldBlock(String url, String host, ResourceType type) {
+        if (host.isEmpty()) {
+            return false;
+        }
+        boolean thirdParty = !registrableDomain(host).equals(firstPartyDomain);
+        String lowerUrl = url.toLowerCase();
+        List<String> tokens = null;
+
+        NetworkFilter match = findByHost(blockByHost, host, lowerUrl, type, thirdParty);
+        if (match == null) {
+            tokens = tokenize(lowerUrl);
+            match = findByToken(blockByToken, tokens, lowerUrl, type, thirdParty);
+        }
+        if (match == null) {
+            return false;
+        }
+        if (!match.important) {
+            if (findByHost(allowByHost, host, lowerUrl, type, thirdParty) != null) {
+                return false;
+            }
+            if (findByToken(allowByToken, tokens != null ? tokens : tokenize(lowerUrl), lowerUrl, type, thirdParty) != null) {
+                return false;
+            }
+        }
+        blocked.increment();
+        return true;
+    }
+
+    /**
+     * Handler for RequestInterceptor that fails every request the filters block
+     * @return request handler
+     */
+    public RequestInterceptor.Handler asHandler() {
+        return request -> {
+            if (shouldBlock(request.getUrl(), request.getHost(), request.getResourceType())) {
+                request.block();
+                return true;
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Reduced blocked-URL set for Network.setBlockedURLs, built from plain host rules
+     * Used where Fetch interception is not available
+     * @param limit maximum number of hosts to include
+     * @return wildcard URL patterns
+     */
+    public List<String> toBlockedUrlPatterns(int limit) {
+        List<String> patterns = new ArrayList<>();
+        for (Map.Entry<String, List<NetworkFilter>> entry : blockByHost.entrySet()) {
+            if (patterns.size() >= limit * 2) {
+                break;
+            }
+            boolean unconditional = entry.getValue().stream().anyMatch(NetworkFilter::isUnconditionalHostRule);
+            if (unconditional && !allowByHost.containsKey(entry.getKey())) {
+                patterns.add("*://" + entry.getKey() + "/*");
+                patterns.add("*://*." + entry.getKey() + "/*");
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Number of network filters in the matcher
+     * @return filter count
+     */
+    public int getFilterCount() {
+        return filterCount;
+    }
+
+    /**
+     * Number of requests blocked since the engine was loaded
+     * @return blocked request count
+     */
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    // ---------------------------------------------------------------------
+    // Matching
+    // ---------------------------------------------------------------------
+
+    private NetworkFilter findByHost(Map<String, List<NetworkFilter>> index, String host, String url,
+                                     ResourceType type, boolean thirdParty) {
+        String candidate = host;
+        while (true) {
+            List<NetworkFilter> filters = index.get(candidate);
+            if (filters != null) {
+                for (NetworkFilter filter : filters) {
+                    if (filter.matches(url, type, thirdParty, firstPartyDomain)) {
+                        return filter;
+                    }
+                }
+            }
+            int dot = candidate.indexOf('.');
+            if (dot < 0) {
+                return null;
+            }
+            candidate = candidate.substring(dot + 1);
+        }
+    }
+
+    private NetworkFilter findByToken(Map<String, List<NetworkFilter>> index, List<String> tokens, String url,
+                                      ResourceType type, boolean thirdParty) {
+        for (String token : tokens) {
+            List<NetworkFilter> filters = index.get(token);
+            if (filters != null) {
+                for (NetworkFilter filter : filters) {
+                    if (filter.matches(url, type, thirdParty, firstPartyDomain)) {
+                        return filter;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> tokenize(String url) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(Arrays.asList(TOKEN_SPLIT.split(url))));
+        // Filters without a usable token are stored under the empty token
+        tokens.add("");
+        return tokens;
+    }
+
+    /**
+     * Registrable domain approximated by the last two labels
+     */
+    static String registrableDomain(String host) {
+        int last = host.lastIndexOf('.');
+        if (last <= 0) {
+            return host;
+        }
+        int previous = host.lastIndexOf('.', last - 1);
+        return previous < 0 ? host : host.substring(previous + 1);
+    }
+
+    // ---------------------------------------------------------------------
+    // Compilation and cache
+    // ---------------------------------------------------------------------
+
+    /**
+     * Load the compiled cache when it matches the current lists, otherwise compile and cache
+     */
+    private static AdBlockFilterEngine load() {
+        ConfigReader config = ConfigReader.getInstance();
+        String baseHost = URI.create(config.getProperty("baseUrl")).getHost().toLowerCase();
+        AdBlockFilterEngine engine = new AdBlockFilterEngine(registrableDomain(baseHost));
+
+        List<Path> lists = findLists(config.getProperty("adblock.filterLists", DEFAULT_LISTS));
+        Path cache = Paths.get(config.getProperty("adblock.cachePath", DEFAULT_CACHE));
+        String fingerprint = fingerprint(lists);
+        long start = System.currentTimeMillis();
+
+        List<String> compiled = readCache(cache, fingerprint);
+        boolean fromCache = compiled != null;
+        if (!fromCache) {
+            compiled = compile(lists);
+            writeCache(cache, fingerprint, compiled);
+        }
+        for (String line : compiled) {
+            engine.add(NetworkFilter.deserialize(line));
+        }
+        System.out.println("AdBlock engine: " + engine.filterCount + " network filters from " + lists.size()
+                + " lists " + (fromCache ? "(cached)" : "(compiled)") + " in "
+                + (System.currentTimeMillis() - start) + " ms");
+        return engine;
+    }
+
+    private void add(NetworkFilter filter) {
+        Map<String, List<NetworkFilter>> index;
+        String key;
+        if (filter.hostKey != null) {
+            index = filter.exception ? allowByHost : blockByHost;
+            key = filter.hostKey;
+        } else {
+            index = filter.exception ? allowByToken : blockByToken;
+            key = filter.token;
+        }
+        index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(filter);
+        filterCount++;
+    }
+
+    private static List<Path> findLists(String locations) {
+        List<Path> lists = new ArrayList<>();
+        for (String location : locations.split(",")) {
+            Path path = Paths.get(location.trim());
+            if (Files.isRegularFile(path)) {
+                lists.add(path);
+            } else if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.walk(path)) {
+                    lists.addAll(files.filter(file -> file.toString().endsWith(".txt"))
+                            .sorted()
+                            .collect(Collectors.toList()));
+                } catch (IOException e) {
+                    System.out.println("Error scanning filter lists in " + path + ": " + e.getMessage());
+                }
+            }
+        }
+        return lists;
+    }
+
+    private static String fingerprint(List<Path> lists) {
+        // Bump the version when parsing changes, so stale compiled caches are rebuilt
+        StringBuilder source = new StringBuilder("v2");
+        for (Path list : lists) {
+            try {
+                source.append('|').append(list).append(':').append(Files.size(list))
+                        .append(':').append(Files.getLastModifiedTime(list).toMillis());
+            } catch (IOException e) {
+                source.append('|').append(list);
+            }
+        }
+        return Integer.toHexString(source.toString().hashCode());
+    }
+
+    private static List<String> readCache(Path cache, String fingerprint) {
+        if (!Files.exists(cache)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(cache, StandardCharsets.UTF_8)) {
+            if (!("# " + fingerprint).equals(reader.readLine())) {
+                return null;
+            }
+            return reader.lines().collect(Collectors.toList());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void writeCache(Path cache, String fingerprint, List<String> compiled) {
+        try {
+            Files.createDirectories(cache.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(cache.toAbsolutePath().getParent(), "filters", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("# " + fingerprint);
+                writer.newLine();
+                for (String line : compiled) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Could not cache compiled filters: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parse the lists and return one serialized line per usable network filter
+     */
+    private static List<String> compile(List<Path> lists) {
+        Set<String> compiled = new LinkedHashSet<>();
+        for (Path list : lists) {
+            try (BufferedReader reader = Files.newBufferedReader(list, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    NetworkFilter filter = NetworkFilter.parse(line.trim());
+                    if (filter != null) {
+                        compiled.add(filter.serialize());
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("Error reading filter list " + list + ": " + e.getMessage());
+            }
+        }
+        return new ArrayList<>(compiled);
+    }
+
+    /**
+     * Network Filter - One compiled network rule
+     */
+    static class NetworkFilter {
+
+        boolean exception;
+        boolean important;
+        boolean firstPartyOnly;
+        boolean thirdPartyOnly;
+        int typeMask = ResourceType.allButDocument();
+        Set<String> includeDomains = Collections.emptySet();
+        Set<String> excludeDomains = Collections.emptySet();
+        String pattern;
+        String hostKey;
+        String token = "";
+        private volatile Pattern regex;
+
+        /**
+         * Parse one list line
+         * @return filter, or null for comments, cosmetic filters and unsupported rules
+         */
+        static NetworkFilter parse(String line) {
+            if (line.isEmpty() || line.startsWith("!") || line.startsWith("[")
+                    || line.contains("##") || line.contains("#@#") || line.contains("#?#") || line.contains("#$#")) {
+                return null;
+            }
+            NetworkFilter filter = new NetworkFilter();
+            String rule = line;
+            if (rule.startsWith("@@")) {
+                filter.exception = true;
+                rule = rule.substring(2);
+            }
+
+            int optionsStart = rule.lastIndexOf('$');
+            if (optionsStart >= 0 && !(rule.startsWith("/") && rule.endsWith("/"))) {
+                if (!filter.parseOptions(rule.substring(optionsStart + 1))) {
+                    return null;
+                }
+                rule = rule.substring(0, optionsStart);
+            }
+
+            // Regex filters are rare in network lists and expensive - skip them
+            if (rule.startsWith("/") && rule.endsWith("/") && rule.length() > 1) {
+                return null;
+            }
+            rule = rule.toLowerCase();
+            if (rule.isEmpty() || rule.equals("*") || rule.equals("|") || rule.equals("||")) {
+                return null;
+            }
+            filter.pattern = rule;
+            filter.index();
+            return filter;
+        }
+
+        /**
+         * @return false when an option cannot be honoured and the filter must be dropped
+         */
+        private boolean parseOptions(String options) {
+            int includeTypes = 0;
+            int excludeTypes = 0;
+            for (String rawOption : options.toLowerCase().split(",")) {
+                String option = rawOption.trim();
+                boolean negated = option.startsWith("~");
+                String name = negated ? option.substring(1) : option;
+                int typeMask = ResourceType.maskForFilterOption(name);
+
+                if (name.equals("third-party") || name.equals("3p")) {
+                    thirdPartyOnly = !negated;
+                    firstPartyOnly = negated;
+                } else if (name.equals("first-party") || name.equals("1p")) {
+                    firstPartyOnly = !negated;
+                    thirdPartyOnly = negated;
+                } else if (name.equals("important")) {
+                    important = true;
+                } else if (name.startsWith("domain=") || name.startsWith("from=")) {
+                    Set<String> include = new HashSet<>();
+                    Set<String> exclude = new HashSet<>();
+                    for (String domain : name.substring(name.indexOf('=') + 1).split("\\|")) {
+                        if (domain.startsWith("~")) {
+                            exclude.add(domain.substring(1));
+                        } else if (!domain.isEmpty()) {
+                            include.add(domain);
+                        }
+                    }
+                    includeDomains = include;
+                    excludeDomains = exclude;
+                } else if (typeMask != 0) {
+                    if (negated) {
+                        excludeTypes |= typeMask;
+                    } else {
+                        includeTypes |= typeMask;
+                    }
+                } else if (!IGNORED_OPTIONS.contains(name)) {
+                    // redirect, csp, removeparam, header, popup, elemhide... change behaviour we cannot reproduce
+                    return false;
+                }
+            }
+            if (includeTypes != 0) {
+                typeMask = includeTypes;
+            }
+            typeMask &= ~excludeTypes;
+            return typeMask != 0;
+        }
+
+        /**
+         * Pick the index key: the host for ||host^ rules, otherwise the longest safe token
+         */
+        private void index() {
+            if (pattern.startsWith("||")) {
+                String rest = pattern.substring(2);
+                String host = rest.endsWith("^") ? rest.substring(0, rest.length() - 1)
+                        : rest.endsWith("^|") ? rest.substring(0, rest.length() - 2) : rest;
+                if (!host.isEmpty() && PURE_HOST.matcher(host).matches() && host.contains(".")) {
+                    hostKey = host;
+                    return;
+                }
+            }
+            String best = "";
+            for (String candidate : TOKEN_SPLIT.split(pattern)) {
+                if (candidate.length() > best.length() && isSafeToken(candidate)) {
+                    best = candidate;
+                }
+            }
+            token = best;
+        }
+
+        /**
+         * A token next to a * may be a fragment of a longer URL token, so it cannot be used as a key
+         */
+        private boolean isSafeToken(String candidate) {
+            int position = pattern.indexOf(candidate);
+            while (position >= 0) {
+                int end = position + candidate.length();
+                boolean wildcardBefore = position > 0 && pattern.charAt(position - 1) == '*';
+                boolean wildcardAfter = end < pattern.length() && pattern.charAt(end) == '*';
+                boolean openStart = position == 0 && !pattern.startsWith("|");
+                boolean openEnd = end == pattern.length() && !pattern.endsWith("|");
+                if (!wildcardBefore && !wildcardAfter && !openStart && !openEnd) {
+                    return true;
+                }
+                position = pattern.indexOf(candidate, position + 1);
+            }
+            return false;
+        }
+
+        boolean isUnconditionalHostRule() {
+            return hostKey != null && !firstPartyOnly && !thirdPartyOnly && includeDomains.isEmpty()
+                    && excludeDomains.isEmpty() && typeMask == ResourceType.allButDocument();
+        }
+
+        boolean matches(String url, ResourceType type, boolean thirdParty, String pageDomain) {
+            if ((typeMask & type.mask()) == 0) {
+                return false;
+            }
+            if ((thirdPartyOnly && !thirdParty) || (firstPartyOnly && thirdParty)) {
+                return false;
+            }
+            if (!includeDomains.isEmpty() && !includeDomains.contains(pageDomain)) {
+                return false;
+            }
+            if (excludeDomains.contains(pageDomain)) {
+                return false;
+            }
+            // Host rules were already matched by the host index
+            return hostKey != null || regex().matcher(url).find();
+        }
+
+        private Pattern regex() {
+            if (regex == null) {
+                regex = Pattern.compile(toRegex(pattern));
+            }
+            return regex;
+        }
+
+        private static String toRegex(String pattern) {
+            StringBuilder regex = new StringBuilder();
+            String rule = pattern;
+            if (rule.startsWith("||")) {
+                regex.append("^[a-z][a-z0-9+.-]*://([^/?#]*\\.)?");
+                rule = rule.substring(2);
+            } else if (rule.startsWith("|")) {
+                regex.append('^');
+                rule = rule.substring(1);
+            }
+            boolean anchoredEnd = rule.endsWith("|");
+            if (anchoredEnd) {
+                rule = rule.substring(0, rule.length() - 1);
+            }
+            StringBuilder literal = new StringBuilder();
+            for (char c : rule.toCharArray()) {
+                if (c == '*' || c == '^') {
+                    if (literal.length() > 0) {
+                        regex.append(Pattern.quote(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    regex.append(c == '*' ? ".*" : "(?:[^a-z0-9_.%-]|$)");
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (literal.length() > 0) {
+                regex.append(Pattern.quote(literal.toString()));
+            }
+            if (anchoredEnd) {
+                regex.append('$');
+            }
+            return regex.toString();
+        }
+
+        /**
+         * Tab separated: flags, type mask, include domains, exclude domains, pattern
+         */
+        String serialize() {
+            String flags = (exception ? "E" : "") + (important ? "I" : "")
+                    + (firstPartyOnly ? "1" : "") + (thirdPartyOnly ? "3" : "");
+            return flags + "\t" + typeMask + "\t" + String.join("|", includeDomains) + "\t"
+                    + String.join("|", excludeDomains) + "\t" + pattern;
+        }
+
+        static NetworkFilter deserialize(String line) {
+            String[] fields = line.split("\t", -1);
+            NetworkFilter filter = new NetworkFilter();
+            filter.exception = fields[0].contains("E");
+            filter.important = fields[0].contains("I");
+            filter.firstPartyOnly = fields[0].contains("1");
+            filter.thirdPartyOnly = fields[0].contains("3");
+            filter.typeMask = Integer.parseInt(fields[1]);
+            filter.includeDomains = fields[2].isEmpty() ? Collections.emptySet() : new HashSet<>(Arrays.asList(fields[2].split("\\|")));
+            filter.excludeDomains = fields[3].isEmpty() ? Collections.emptySet() : new HashSet<>(Arrays.asList(fields[3].split("\\|")));
+            filter.pattern = fields[4];
+            filter.index();
+            return filter;
+        }
+    }
+}
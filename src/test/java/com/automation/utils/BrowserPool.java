@@ -0,0 +1,357 @@
+package com.automation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Browser Pool - Keeps a bounded set of warm browsers that are leased per test
+ * Browsers are reset between leases and only relaunched after a crash or after maxLeases
+ * Demonstrates Singleton pattern and Encapsulation
+ */
+public class BrowserPool {
+
+    private static volatile BrowserPool instance;
+
+    private final int size;
+    private final int maxLeases;
+    private final long leaseTimeoutSeconds;
+    private final Semaphore permits;
+    private final LinkedBlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final Map<WebDriver, Integer> leaseCounts = new ConcurrentHashMap<>();
+    private volatile boolean shutdown;
+
+    // Metrics
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder resetNanos = new LongAdder();
+    private final LongAdder launches = new LongAdder();
+    private final LongAdder recycledAfterMaxLeases = new LongAdder();
+    private final LongAdder recycledAfterCrash = new LongAdder();
+
+    /**
+     * Private constructor (Singleton pattern)
+     */
+    private BrowserPool() {
+        ConfigReader config = ConfigReader.getInstance();
+        int configuredSize = config.getIntProperty("browserPool.size", 0);
+        // threadCount defaults to one worker per core - do not turn a large CI runner into dozens of browsers
+        this.size = configuredSize > 0 ? configuredSize
+                : Math.min(ParallelConfigListener.resolveThreadCount(), config.getIntProperty("browserPool.maxSize", 8));
+        this.maxLeases = config.getIntProperty("browserPool.maxLeases", 25);
+        this.leaseTimeoutSeconds = config.getIntProperty("browserPool.leaseTimeoutSeconds", 300);
+        this.permits = new Semaphore(size, true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    /**
+     * Get singleton instance
+     * @return BrowserPool instance
+     */
+    public static BrowserPool getInstance() {
+        if (instance == null) {
+            synchronized (BrowserPool.class) {
+                if (instance == null) {
+                    instance = new BrowserPool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check if pooling is enabled in config.properties
+     * @return true if browsers should be leased from the pool
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getInstance().getProperty("browserPool.enabled", "false"));
+    }
+
+    /**
+     * Launch the browsers the suite can use up front, in parallel
+     * More browsers than tests would never be leased; the rest of the pool is launched on demand
+     * @param testCount number of test methods in the suite
+     */
+    public void warmUp(int testCount) {
+        int missing = Math.min(size, testCount) - idle.size() - leaseCounts.size();
+        if (missing <= 0) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(missing);
+        try {
+            List<Future<WebDriver>> launched = new ArrayList<>();
+            for (int i = 0; i < missing; i++) {
+                launched.add(executor.submit(this::launch));
+            }
+            for (Future<WebDriver> future : launched) {
+                try {
+                    idle.add(future.get());
+                } catch (Exception e) {
+                    System.out.println("Error pre-launching browser: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        System.out.println("Browser pool warmed up with " + idle.size() + " browsers");
+    }
+
+    /**
+     * Lease a browser for exclusive use by the calling thread
+     * @return WebDriver instance
+     */
+    public WebDriver lease() {
+        if (shutdown) {
+            throw new RuntimeException("Browser pool has been shut down");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new RuntimeException("Timed out after " + leaseTimeoutSeconds + "s waiting for a pooled browser");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a pooled browser", e);
+        }
+        long waited = System.nanoTime() - start;
+        leaseWaitNanos.add(waited);
+        maxLeaseWaitNanos.accumulateAndGet(waited, Math::max);
+        leases.increment();
+
+        try {
+            WebDriver driver;
+            while ((driver = idle.poll()) != null) {
+                if (isAlive(driver)) {
+                    leaseCounts.merge(driver, 1, Integer::sum);
+                    return driver;
+                }
+                recycledAfterCrash.increment();
+                discard(driver);
+            }
+            driver = launch();
+            leaseCounts.put(driver, 1);
+            return driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Hand a leased browser back to the pool
+     * The browser is reset, or relaunched lazily if it crashed or reached maxLeases
+     * @param driver leased WebDriver
+     */
+    public void release(WebDriver driver) {
+        Integer count = leaseCounts.get(driver);
+        if (count == null) {
+            return;
+        }
+        try {
+            if (shutdown) {
+                discard(driver);
+            } else if (count >= maxLeases) {
+                recycledAfterMaxLeases.increment();
+                discard(driver);
+            } else if (!reset(driver)) {
+                recycledAfterCrash.increment();
+                discard(driver);
+            } else {
+                idle.add(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quit all idle browsers and print pool metrics
+     */
+    public synchronized void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        WebDriver driver;
+        while ((driver = idle.poll()) != null) {
+            discard(driver);
+        }
+        printMetrics();
+    }
+
+    /**
+     * Launch a new browser through DriverManager
+     */
+    private WebDriver launch() {
+        WebDriver driver = DriverManager.createSession();
+        launches.increment();
+        return driver;
+    }
+
+    /**
+     * Quit a browser and forget its lease count
+     */
+    private void discard(WebDriver driver) {
+        leaseCounts.remove(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.out.println("Error quitting pooled driver: " + e.getMessage());
+        }
+        DownloadDirectory.release(driver);
+    }
+
+    /**
+     * Quick liveness probe - a crashed browser fails any command
+     */
+    private boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reset cookies, storage, cache, extra windows and download state
+     * @return false if the browser is no longer usable
+     */
+    private boolean reset(WebDriver driver) {
+        long start = System.nanoTime();
+        try {
+            closeExtraWindows(driver);
+
+            // Web storage is per origin, so clear it while the test's page is still loaded
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            } catch (Exception e) {
+                // Page may be about:blank or a download, nothing to clear
+            }
+
+            // The download directory and tracked downloads are registered under the decorated driver,
+            // not the browser behind it
+            WebDriver browser = DriverManager.unwrap(driver);
+            if (browser instanceof ChromiumDriver) {
+                DownloadTracker.cancelPending(driver);
+                resetChromium((ChromiumDriver) browser, DriverManager.getDownloadPath(driver));
+            }
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.out.println("Error resetting pooled driver: " + e.getMessage());
+            return false;
+        } finally {
+            resets.increment();
+            resetNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Close every window except the first one and switch back to it
+     */
+    private void closeExtraWindows(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String keep = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(keep);
+    }
+
+    /**
+     * Chrome/Edge reset via DevTools Protocol - covers storage the JS APIs cannot reach
+     */
+    private void resetChromium(ChromiumDriver driver, String downloadPath) {
+        Map<String, Object> clearOrigin = new HashMap<>();
+        clearOrigin.put("origin", baseOrigin());
+        clearOrigin.put("storageTypes", "all");
+        driver.executeCdpCommand("Storage.clearDataForOrigin", clearOrigin);
+        driver.executeCdpCommand("Network.clearBrowserCache", new HashMap<>());
+        driver.executeCdpCommand("Network.clearBrowserCookies", new HashMap<>());
+
+        // Restore the session's download behaviour - DownloadTracker switches it to allowAndName
+        Map<String, Object> downloads = new HashMap<>();
+        downloads.put("behavior", "allow");
+        downloads.put("downloadPath", downloadPath);
+        driver.executeCdpCommand("Browser.setDownloadBehavior", downloads);
+    }
+
+    /**
+     * Origin of the site under test, e.g. https://automationexercise.com
+     */
+    private String baseOrigin() {
+        URI uri = URI.create(ConfigReader.getInstance().getProperty("baseUrl"));
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    /**
+     * Print lease wait, reset time and recycle metrics
+     */
+    public void printMetrics() {
+        System.out.println("=== Browser Pool Metrics ===");
+        System.out.println("Pool size: " + size + ", max leases per browser: " + maxLeases);
+        System.out.println("Browsers launched: " + launches.sum() + ", leases: " + leases.sum());
+        System.out.printf("Lease wait: avg %.1f ms, max %.1f ms%n", getAverageLeaseWaitMillis(), maxLeaseWaitNanos.get() / 1_000_000.0);
+        System.out.printf("Reset time: avg %.1f ms over %d resets%n", getAverageResetMillis(), resets.sum());
+        System.out.println("Recycled after max leases: " + recycledAfterMaxLeases.sum()
+                + ", after crash: " + recycledAfterCrash.sum());
+    }
+
+    /**
+     * Average time a test waited for a free browser
+     * @return milliseconds
+     */
+    public double getAverageLeaseWaitMillis() {
+        long count = leases.sum();
+        return count == 0 ? 0 : leaseWaitNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * Average time spent resetting a browser between leases
+     * @return milliseconds
+     */
+    public double getAverageResetMillis() {
+        long count = resets.sum();
+        return count == 0 ? 0 : resetNanos.sum() / 1_000_000.0 / count;
+    }
+
+    /**
+     * Browsers relaunched after a crash or after reaching maxLeases
+     * @return recycle count
+     */
+    public long getRecycleCount() {
+        return recycledAfterMaxLeases.sum() + recycledAfterCrash.sum();
+    }
+
+    /**
+     * Total browsers launched by the pool
+     * @return launch count
+     */
+    public long getLaunchCount() {
+        return launches.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Browser Pool Listener - Pre-launches pooled browsers at suite start (no more than the suite has tests)
+ * and shuts the pool down (printing its metrics) when the suite finishes
+ */
+public class BrowserPoolListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (BrowserPool.isEnabled()) {
+            BrowserPool.getInstance().warmUp(suite.getAllMethods().size());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (BrowserPool.isEnabled()) {
+            BrowserPool.getInstance().shutdown();
+        }
+    }
+}
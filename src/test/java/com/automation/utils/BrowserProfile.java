@@ -0,0 +1,186 @@
+package com.automation.utils;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.FirefoxProfile;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Browser Profile - Tuned option sets for chrome, firefox and edge
+ * Selected with browserProfile in config.properties:
+ * - standard: headed, maximized window (previous behaviour)
+ * - performance: headed, fixed viewport, no background throttling, minimal first run
+ * - headless: performance plus headless mode
+ */
+public enum BrowserProfile {
+
+    STANDARD(false, false),
+    PERFORMANCE(false, true),
+    HEADLESS(true, true);
+
+    private final boolean headless;
+    private final boolean tuned;
+
+    BrowserProfile(boolean headless, boolean tuned) {
+        this.headless = headless;
+        this.tuned = tuned;
+    }
+
+    /**
+     * Profile selected in config.properties
+     * @return BrowserProfile
+     */
+    public static BrowserProfile current() {
+        String name = ConfigReader.getInstance().getProperty("browserProfile", "standard");
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unsupported browserProfile: " + name);
+        }
+    }
+
+    /**
+     * Tuned profiles use a fixed viewport instead of maximizing the window
+     * @return true if the window should be maximized after launch
+     */
+    public boolean maximizeWindow() {
+        return !tuned;
+    }
+
+    /**
+     * Get Chrome options for this profile
+     * @param downloadPath download directory of the session
+     * @return ChromeOptions
+     */
+    public ChromeOptions chromeOptions(String downloadPath) {
+        ChromeOptions options = new ChromeOptions();
+        applyChromium(options, downloadPath);
+        return options;
+    }
+
+    /**
+     * Get Edge options for this profile
+     * @param downloadPath download directory of the session
+     * @return EdgeOptions
+     */
+    public EdgeOptions edgeOptions(String downloadPath) {
+        EdgeOptions options = new EdgeOptions();
+        applyChromium(options, downloadPath);
+        return options;
+    }
+
+    /**
+     * Get Firefox options for this profile
+     * @param downloadPath download directory of the session
+     * @return FirefoxOptions
+     */
+    public FirefoxOptions firefoxOptions(String downloadPath) {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy());
+
+        FirefoxProfile profile = new FirefoxProfile();
+        // Download directory
+        profile.setPreference("browser.download.folderList", 2);
+        profile.setPreference("browser.download.dir", downloadPath);
+        profile.setPreference("browser.helperApps.neverAsk.saveToDisk", "text/plain,application/octet-stream");
+        profile.setPreference("dom.webnotifications.enabled", false);
+
+        if (tuned) {
+            // Minimal first run
+            profile.setPreference("browser.shell.checkDefaultBrowser", false);
+            profile.setPreference("browser.aboutwelcome.enabled", false);
+            profile.setPreference("datareporting.policy.dataSubmissionEnabled", false);
+            profile.setPreference("toolkit.telemetry.enabled", false);
+            profile.setPreference("app.update.auto", false);
+            profile.setPreference("extensions.update.enabled", false);
+            // No background throttling
+            profile.setPreference("dom.min_background_timeout_value", 4);
+            profile.setPreference("dom.timeout.enable_budget_timer_throttling", false);
+
+            int[] viewport = viewport();
+            options.addArguments("--width=" + viewport[0], "--height=" + viewport[1]);
+        }
+        if (headless) {
+            options.addArguments("-headless");
+        }
+        options.setProfile(profile);
+        return options;
+    }
+
+    /**
+     * Options shared by Chrome and Edge
+     */
+    private void applyChromium(ChromiumOptions<?> options, String downloadPath) {
+        options.setPageLoadStrategy(pageLoadStrategy());
+
+        // Download directory
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("download.default_directory", downloadPath);
+        prefs.put("download.prompt_for_download", false);
+        prefs.put("plugins.always_open_pdf_externally", true);
+        options.setExperimentalOption("prefs", prefs);
+
+        // Stability options
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-popup-blocking");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--remote-allow-origins=*");
+
+        if (tuned) {
+            int[] viewport = viewport();
+            options.addArguments("--window-size=" + viewport[0] + "," + viewport[1]);
+
+            // No background throttling - occluded or parallel windows keep full speed
+            options.addArguments("--disable-background-timer-throttling");
+            options.addArguments("--disable-backgrounding-occluded-windows");
+            options.addArguments("--disable-renderer-backgrounding");
+
+            // Minimal first run
+            options.addArguments("--no-first-run");
+            options.addArguments("--no-default-browser-check");
+            options.addArguments("--disable-extensions");
+            options.addArguments("--disable-component-update");
+            options.addArguments("--disable-default-apps");
+            options.addArguments("--disable-sync");
+            options.addArguments("--disable-background-networking");
+        }
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+    }
+
+    /**
+     * Page load strategy from config.properties (normal, eager or none)
+     * With eager/none, page objects wait for their own readiness condition instead of the load event
+     * @return PageLoadStrategy
+     */
+    public static PageLoadStrategy pageLoadStrategy() {
+        String value = ConfigReader.getInstance().getProperty("pageLoadStrategy", "normal");
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.toLowerCase());
+        if (strategy == null) {
+            throw new RuntimeException("Unsupported pageLoadStrategy: " + value);
+        }
+        return strategy;
+    }
+
+    /**
+     * Fixed viewport from config.properties, e.g. viewport=1920x1080
+     * @return width and height
+     */
+    private static int[] viewport() {
+        String value = ConfigReader.getInstance().getProperty("viewport", "1920x1080");
+        String[] parts = value.toLowerCase().split("x");
+        try {
+            return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid viewport '" + value + "', expected WIDTHxHEIGHT");
+        }
+    }
+}
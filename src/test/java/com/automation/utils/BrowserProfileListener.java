@@ -0,0 +1,20 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Browser Profile Listener - Prints startup and page load savings of the
+ * selected browser profile when the suite finishes, plus network archive counts
+ * when recording or replaying
+ */
+public class BrowserProfileListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        BrowserProfileStats.report();
+        if (!NetworkArchive.mode().equals("live")) {
+            NetworkArchive.getInstance().printSummary();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.automation.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Browser Profile Stats - Measures browser startup and landing page load per profile
+ * Totals are accumulated across runs on disk, so the report can show what each
+ * profile saves compared with the others that were run on this machine
+ */
+public class BrowserProfileStats {
+
+    private static final LongAdder startups = new LongAdder();
+    private static final LongAdder startupMillis = new LongAdder();
+    private static final LongAdder pageLoads = new LongAdder();
+    private static final LongAdder pageLoadMillis = new LongAdder();
+
+    private BrowserProfileStats() {
+    }
+
+    /**
+     * Record how long a browser took to launch and configure
+     * @param millis startup time
+     */
+    public static void recordStartup(long millis) {
+        startups.increment();
+        startupMillis.add(millis);
+    }
+
+    /**
+     * Record how long a page load took
+     * @param millis page load time
+     */
+    public static void recordPageLoad(long millis) {
+        pageLoads.increment();
+        pageLoadMillis.add(millis);
+    }
+
+    /**
+     * Merge this run into the on-disk totals and print the comparison between profiles
+     */
+    public static synchronized void report() {
+        if (startups.sum() == 0 && pageLoads.sum() == 0) {
+            return;
+        }
+        String browser = ConfigReader.getInstance().getProperty("browser").toLowerCase();
+        BrowserProfile current = BrowserProfile.current();
+        Path file = statsFile();
+        Properties totals = load(file);
+
+        String prefix = browser + "." + current.name().toLowerCase();
+        add(totals, prefix + ".startup", startups.sum(), startupMillis.sum());
+        add(totals, prefix + ".pageLoad", pageLoads.sum(), pageLoadMillis.sum());
+        store(file, totals);
+
+        double startupAvg = average(totals, prefix + ".startup");
+        double pageLoadAvg = average(totals, prefix + ".pageLoad");
+        System.out.println("=== Browser Profile: " + current.name().toLowerCase() + " (" + browser + ") ===");
+        System.out.printf("This run: startup avg %.0f ms (%d), page load avg %.0f ms (%d)%n",
+                perRun(startupMillis, startups), startups.sum(), perRun(pageLoadMillis, pageLoads), pageLoads.sum());
+        for (BrowserProfile other : BrowserProfile.values()) {
+            String otherPrefix = browser + "." + other.name().toLowerCase();
+            if (other == current || !totals.containsKey(otherPrefix + ".startup.count")) {
+                continue;
+            }
+            System.out.printf("vs %s: startup saves %.0f ms, page load saves %.0f ms%n",
+                    other.name().toLowerCase(),
+                    average(totals, otherPrefix + ".startup") - startupAvg,
+                    average(totals, otherPrefix + ".pageLoad") - pageLoadAvg);
+        }
+        System.out.println("History: " + file);
+    }
+
+    private static double perRun(LongAdder millis, LongAdder count) {
+        return count.sum() == 0 ? 0 : (double) millis.sum() / count.sum();
+    }
+
+    private static void add(Properties totals, String key, long count, long millis) {
+        long previousCount = Long.parseLong(totals.getProperty(key + ".count", "0"));
+        long previousMillis = Long.parseLong(totals.getProperty(key + ".totalMs", "0"));
+        totals.setProperty(key + ".count", String.valueOf(previousCount + count));
+        totals.setProperty(key + ".totalMs", String.valueOf(previousMillis + millis));
+    }
+
+    private static double average(Properties totals, String key) {
+        long count = Long.parseLong(totals.getProperty(key + ".count", "0"));
+        long millis = Long.parseLong(totals.getProperty(key + ".totalMs", "0"));
+        return count == 0 ? 0 : (double) millis / count;
+    }
+
+    private static Path statsFile() {
+        String defaultPath = System.getProperty("user.home") + "/.cache/ecommerce-automation/profile-stats.properties";
+        return Paths.get(ConfigReader.getInstance().getProperty("profileStats.path", defaultPath));
+    }
+
+    private static Properties load(Path file) {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                properties.load(input);
+            } catch (IOException e) {
+                System.out.println("Ignoring unreadable profile stats " + file + ": " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    private static void store(Path file, Properties properties) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (OutputStream output = Files.newOutputStream(file)) {
+                properties.store(output, "browser.profile.metric.count / totalMs");
+            }
+        } catch (IOException e) {
+            System.out.println("Could not save profile stats " + file + ": " + e.getMessage());
+        }
+    }
+}
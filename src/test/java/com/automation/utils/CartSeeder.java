@@ -0,0 +1,131 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cart Seeder - Puts products into the browser session's cart over HTTP
+ * Calls the same /add_to_cart/{id} endpoint as the product grid's "Add to cart" buttons
+ * (id = the button's data-product-id), with the browser's cookies, so checkout-focused tests
+ * can open the cart directly instead of clicking through the grid and its modal.
+ * Products are added to whatever the session's cart already holds.
+ */
+public final class CartSeeder {
+
+    private static final Pattern CART_ROW = Pattern.compile("id=\"product-(\\d+)\"");
+
+    private CartSeeder() {
+    }
+
+    /**
+     * Add products to the session's cart, one of each
+     * @param driver WebDriver instance whose session cookie is used
+     * @param productIds product ids as in data-product-id
+     */
+    public static void seed(WebDriver driver, int... productIds) {
+        for (int productId : productIds) {
+            add(driver, productId, 1);
+        }
+    }
+
+    /**
+     * Add one product to the session's cart
+     * @param driver WebDriver instance whose session cookie is used
+     * @param productId product id as in data-product-id
+     * @param quantity quantity
+     */
+    public static void add(WebDriver driver, int productId, int quantity) {
+        NetworkArchive.requireLive("CartSeeder");
+        String url = baseUrl() + "/add_to_cart/" + productId + (quantity > 1 ? "?quantity=" + quantity : "");
+        // Without the session cookie the server would start a new session and the cart would be lost,
+        // so a browser that has not been on the site yet gets its session from the (empty) cart page
+        if (SessionHttp.cookieHeader(driver, URI.create(url)).isEmpty()) {
+            driver.get(baseUrl() + "/view_cart");
+        }
+        try {
+            // Sent one at a time (the server updates the session's cart on every request),
+            // marked as the AJAX call the grid makes
+            HttpResponse<InputStream> response = SessionHttp.send(SessionHttp.request(driver, url)
+                    .header("X-Requested-With", "XMLHttpRequest")
+                    .GET()
+                    .build());
+            response.body().close();
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("GET " + url + " returned " + response.statusCode());
+            }
+            System.out.println("Seeded cart with product " + productId + " x" + quantity);
+        } catch (IOException e) {
+            throw new RuntimeException("Error adding product " + productId + " to cart: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Empty the session's cart - reads the cart page and calls /delete_cart/{id} for each row
+     * @param driver WebDriver instance, on a page of the site
+     * @return number of products removed
+     */
+    public static int clear(WebDriver driver) {
+        return clear(url -> SessionHttp.request(driver, url));
+    }
+
+    /**
+     * Empty an account's cart in a session of its own, whatever session a browser holds
+     * @param email account email
+     * @param password account password
+     * @return number of products removed
+     */
+    public static int clear(String email, String password) {
+        String cookies = SessionCache.getInstance().logInOverHttp(email, password);
+        if (cookies == null) {
+            throw new RuntimeException("Error clearing cart: could not log in " + email);
+        }
+        return clear(url -> HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", cookies));
+    }
+
+    private static int clear(Function<String, HttpRequest.Builder> requests) {
+        Set<String> productIds = new LinkedHashSet<>();
+        try {
+            HttpResponse<InputStream> cart = SessionHttp.send(requests.apply(baseUrl() + "/view_cart").GET().build());
+            if (cart.statusCode() / 100 != 2) {
+                cart.body().close();
+                throw new IOException("GET /view_cart returned " + cart.statusCode());
+            }
+            String html;
+            try (InputStream body = cart.body()) {
+                html = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            Matcher row = CART_ROW.matcher(html);
+            while (row.find()) {
+                productIds.add(row.group(1));
+            }
+            for (String productId : productIds) {
+                SessionHttp.send(requests.apply(baseUrl() + "/delete_cart/" + productId)
+                        .header("X-Requested-With", "XMLHttpRequest")
+                        .GET()
+                        .build()).body().close();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error clearing cart: " + e.getMessage(), e);
+        }
+        return productIds.size();
+    }
+
+    private static String baseUrl() {
+        String baseUrl = ConfigReader.getInstance().getProperty("baseUrl");
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+}
@@ -0,0 +1,269 @@
+package com.automation.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Command Metrics - Timing of every WebDriver command and explicit wait, per caller
+ * Each timing is tagged with the page-object method that issued it (e.g.
+ * ProductsPage.addFirstProductToCart) and the BasePage helper it went through (e.g.
+ * BasePage.click), and recorded in a LatencyHistogram.
+ * While the suite runs, OpenMetrics text is served on http://127.0.0.1:{metrics.port}/metrics;
+ * a JSON summary is written to metrics.summaryFile when it finishes.
+ */
+public final class CommandMetrics {
+
+    private static final String PAGES = "com.automation.pages.";
+    private static final String BASE_PAGE = "com.automation.base.BasePage";
+    private static final String PROJECT = "com.automation.";
+    private static final String NONE = "-";
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private static HttpServer server;
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Check if command timing is enabled in config.properties
+     * @return true if DriverManager should install the timing listener
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getInstance().getProperty("metrics.enabled", "true"));
+    }
+
+    /**
+     * Record one command, tagged with the calling page-object method and BasePage helper
+     * @param command command name, e.g. "findElement", "click", "wait.visible"
+     * @param nanos duration
+     */
+    public static void record(String command, long nanos) {
+        StepTimeline.onCommand(command, nanos);
+        String[] callers = WALKER.walk(frames -> {
+            String page = null;
+            String helper = null;
+            String fallback = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(PROJECT)) {
+                    continue;
+                }
+                if (className.startsWith("com.automation.tests.")) {
+                    if (page == null && fallback == null) {
+                        fallback = name(frame);
+                    }
+                    break;
+                }
+                // Outermost frames win: the public page method and helper the test called
+                if (className.startsWith(PAGES)) {
+                    page = name(frame);
+                } else if (className.equals(BASE_PAGE)) {
+                    helper = name(frame);
+                } else if (fallback == null && !isMetricsClass(className)) {
+                    fallback = name(frame);
+                }
+            }
+            return new String[]{page != null ? page : fallback != null ? fallback : NONE,
+                    helper != null ? helper : NONE};
+        });
+        histograms.computeIfAbsent(new Key(command, callers[0], callers[1]), k -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Current metrics in OpenMetrics text format
+     * @return exposition text, ending with # EOF
+     */
+    public static String openMetrics() {
+        StringBuilder text = new StringBuilder();
+        text.append("# TYPE webdriver_command_seconds histogram\n");
+        text.append("# HELP webdriver_command_seconds WebDriver command and explicit wait duration by caller\n");
+        text.append("# UNIT webdriver_command_seconds seconds\n");
+        for (Map.Entry<Key, LatencyHistogram> entry : sortedEntries()) {
+            LatencyHistogram histogram = entry.getValue();
+            String labels = entry.getKey().labels();
+            long max = histogram.getMaxMicros();
+            for (long bound = 128; ; bound <<= 1) {
+                text.append("webdriver_command_seconds_bucket{").append(labels).append(",le=\"")
+                        .append(seconds(bound)).append("\"} ").append(histogram.countBelow(bound)).append('\n');
+                if (bound > max) {
+                    break;
+                }
+            }
+            text.append("webdriver_command_seconds_bucket{").append(labels).append(",le=\"+Inf\"} ")
+                    .append(histogram.getCount()).append('\n');
+            text.append("webdriver_command_seconds_count{").append(labels).append("} ")
+                    .append(histogram.getCount()).append('\n');
+            text.append("webdriver_command_seconds_sum{").append(labels).append("} ")
+                    .append(String.format(Locale.ROOT, "%.6f", histogram.getTotalMillis() / 1000.0)).append('\n');
+        }
+        text.append("# EOF\n");
+        return text.toString();
+    }
+
+    /**
+     * Serve openMetrics() on 127.0.0.1:metrics.port/metrics (0 picks a free port)
+     */
+    public static synchronized void startServer() {
+        if (server != null) {
+            return;
+        }
+        int port = ConfigReader.getInstance().getIntProperty("metrics.port", 0);
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            System.out.println("Metrics endpoint unavailable: " + e.getMessage());
+            return;
+        }
+        server.createContext("/metrics", exchange -> {
+            byte[] body = openMetrics().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/openmetrics-text; version=1.0.0; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        System.out.println("WebDriver metrics at http://127.0.0.1:" + server.getAddress().getPort() + "/metrics");
+    }
+
+    /**
+     * Stop the metrics endpoint
+     */
+    public static synchronized void stopServer() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Write the JSON summary to metrics.summaryFile and print the most expensive callers
+     */
+    public static void report() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<Key, LatencyHistogram> entry : sortedEntries()) {
+            LatencyHistogram histogram = entry.getValue();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("command", entry.getKey().command);
+            row.put("caller", entry.getKey().caller);
+            row.put("helper", entry.getKey().helper);
+            row.put("count", histogram.getCount());
+            row.put("totalMillis", round(histogram.getTotalMillis()));
+            row.put("p50Millis", round(histogram.getPercentileMillis(50)));
+            row.put("p90Millis", round(histogram.getPercentileMillis(90)));
+            row.put("p99Millis", round(histogram.getPercentileMillis(99)));
+            row.put("maxMillis", round(histogram.getMaxMillis()));
+            rows.add(row);
+        }
+        Path file = Paths.get(ConfigReader.getInstance().getProperty("metrics.summaryFile",
+                "target/metrics/webdriver-commands.json"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, new Json().toJson(rows).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println("Error writing metrics summary: " + e.getMessage());
+        }
+
+        System.out.println("=== WebDriver Commands (by total time) ===");
+        for (Map<String, Object> row : rows.subList(0, Math.min(15, rows.size()))) {
+            System.out.printf("%-16s %-44s %-26s %6d x, %9.1f ms, p90 %7.1f ms%n", row.get("command"), row.get("caller"),
+                    row.get("helper"), (Long) row.get("count"), (Double) row.get("totalMillis"), (Double) row.get("p90Millis"));
+        }
+        System.out.println("Summary: " + file);
+    }
+
+    private static List<Map.Entry<Key, LatencyHistogram>> sortedEntries() {
+        List<Map.Entry<Key, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingDouble((Map.Entry<Key, LatencyHistogram> e) -> e.getValue().getTotalMillis()).reversed());
+        return entries;
+    }
+
+    private static boolean isMetricsClass(String className) {
+        return className.equals(CommandMetrics.class.getName()) || className.equals(CommandTimingListener.class.getName());
+    }
+
+    /**
+     * ClassName.method, with lambda bodies reported as the method that declared them
+     */
+    private static String name(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        int nested = simpleName.indexOf('$');
+        if (nested > 0) {
+            simpleName = simpleName.substring(0, nested);
+        }
+        String method = frame.getMethodName();
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', 7);
+            method = end > 7 ? method.substring(7, end) : method;
+        }
+        return simpleName + "." + method;
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 100) / 100.0;
+    }
+
+    /**
+     * Key - One timing series: command + caller + helper
+     */
+    private static final class Key {
+        final String command;
+        final String caller;
+        final String helper;
+
+        Key(String command, String caller, String helper) {
+            this.command = command;
+            this.caller = caller;
+            this.helper = helper;
+        }
+
+        String labels() {
+            return "command=\"" + escape(command) + "\",caller=\"" + escape(caller) + "\",helper=\"" + escape(helper) + "\"";
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return command.equals(key.command) && caller.equals(key.caller) && helper.equals(key.helper);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(command, caller, helper);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Command Metrics Listener - Serves live WebDriver command metrics while the suite runs
+ * and writes the JSON summary when it finishes
+ */
+public class CommandMetricsListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (CommandMetrics.isEnabled()) {
+            CommandMetrics.startServer();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (CommandMetrics.isEnabled()) {
+            CommandMetrics.report();
+            CommandMetrics.stopServer();
+        }
+    }
+}
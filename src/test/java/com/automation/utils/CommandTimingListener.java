@@ -0,0 +1,83 @@
+package com.automation.utils;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Command Timing Listener - Times every call on a decorated driver, its elements,
+ * navigation and switchTo objects, and hands the duration to CommandMetrics
+ * Installed by DriverManager through Selenium's EventFiringDecorator (metrics.enabled).
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    // Accessors that return decorated helper objects or unwrap - no browser round trip
+    private static final Set<String> UNTIMED = Set.of("hashCode", "equals", "toString",
+            "getWrappedDriver", "getWrappedElement", "manage", "navigate", "switchTo", "getDevTools");
+
+    // Start times of the calls in progress on this thread (calls can nest, e.g. a wait inside a command)
+    private final ThreadLocal<long[]> starts = ThreadLocal.withInitial(() -> new long[16]);
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (UNTIMED.contains(method.getName())) {
+            return;
+        }
+        int[] level = depth.get();
+        long[] stack = starts.get();
+        if (level[0] < stack.length) {
+            stack[level[0]] = System.nanoTime();
+        }
+        level[0]++;
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        // Failed finds are real time spent too (probes for optional elements)
+        finish(target, method);
+    }
+
+    private void finish(Object target, Method method) {
+        if (UNTIMED.contains(method.getName())) {
+            return;
+        }
+        int[] level = depth.get();
+        if (level[0] == 0) {
+            return;
+        }
+        level[0]--;
+        if (level[0] < starts.get().length) {
+            CommandMetrics.record(commandName(target, method), System.nanoTime() - starts.get()[level[0]]);
+        }
+    }
+
+    /**
+     * findElement, click, sendKeys... for driver and element calls; navigate.to, switchTo.frame... otherwise
+     */
+    private static String commandName(Object target, Method method) {
+        if (target instanceof WebDriver || target instanceof WebElement) {
+            return method.getName();
+        }
+        if (target instanceof WebDriver.Navigation) {
+            return "navigate." + method.getName();
+        }
+        if (target instanceof WebDriver.TargetLocator) {
+            return "switchTo." + method.getName();
+        }
+        if (target instanceof Alert) {
+            return "alert." + method.getName();
+        }
+        return "manage." + method.getName();
+    }
+}
@@ -7,11 +7,12 @@ import java.util.Properties;
 
 /**
  * Configuration Reader - Reads properties from config file
+ * System properties (-Dkey=value) override values from the file
  * Demonstrates Singleton pattern and Encapsulation
  */
 public class ConfigReader {
 
-    private static ConfigReader instance;
+    private static volatile ConfigReader instance;
     private Properties properties;
     private static final String CONFIG_FILE_PATH = "src/test/resources/config.properties";
 
@@ -57,7 +58,7 @@ public class ConfigReader {
      * @return property value
      */
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = System.getProperty(key, properties.getProperty(key));
         if (value == null) {
             throw new RuntimeException("Property '" + key + "' not found in config.properties");
         }
@@ -71,7 +72,25 @@ public class ConfigReader {
      * @return property value or default
      */
     public String getProperty(String key, String defaultValue) {
-        String value = properties.getProperty(key);
+        String value = System.getProperty(key, properties.getProperty(key));
         return (value != null) ? value.trim() : defaultValue;
     }
+
+    /**
+     * Get integer property value with default
+     * @param key property key
+     * @param defaultValue default value if key not found or blank
+     * @return property value or default
+     */
+    public int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key, "");
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Property '" + key + "' is not a number: " + value);
+        }
+    }
 }
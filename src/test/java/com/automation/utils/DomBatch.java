@@ -0,0 +1,168 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DOM Batch - Reads presence, visibility, text and attributes of many elements
+ * in a single executeScript instead of one WebDriver round trip per element and property
+ * Text follows getText(): rendered text of visible elements, empty for hidden ones
+ */
+public final class DomBatch {
+
+    private static final String SCRIPT = PageScripts.LOCATE + PageScripts.VISIBLE
+            + "var mode = arguments[0], targets = arguments[1], names = arguments[2];"
+            + "function state(el) {"
+            + "  if (!el) return {present: false, visible: false, text: '', attributes: {}};"
+            + "  var shown = visible(el), attributes = {};"
+            + "  names.forEach(function (name) { attributes[name] = el.getAttribute(name); });"
+            + "  return {present: true, visible: shown, text: shown ? (el.innerText || '').trim() : '', attributes: attributes};"
+            + "}"
+            + "if (mode === 'elements') return targets.map(state);"
+            + "if (mode === 'each') return locate(targets[0][0], targets[0][1]).map(state);"
+            + "return targets.map(function (target) { return state(locate(target[0], target[1])[0]); });";
+
+    private DomBatch() {
+    }
+
+    /**
+     * Read the first match of each locator
+     * @param driver WebDriver instance
+     * @param locators locators, one result per locator in the same order
+     * @param attributes attribute names to read
+     * @return element states (not present when a locator matches nothing)
+     */
+    public static List<ElementState> read(WebDriver driver, List<By> locators, String... attributes) {
+        List<List<String>> targets = new ArrayList<>();
+        for (By locator : locators) {
+            List<String> args = PageScripts.args(locator);
+            if (args == null) {
+                return readOneByOne(driver, locators, attributes);
+            }
+            targets.add(args);
+        }
+        return run(driver, "first", targets, attributes);
+    }
+
+    /**
+     * Read every match of one locator
+     * @param driver WebDriver instance
+     * @param locator locator
+     * @param attributes attribute names to read
+     * @return element states in document order
+     */
+    public static List<ElementState> readEach(WebDriver driver, By locator, String... attributes) {
+        List<String> args = PageScripts.args(locator);
+        if (args == null) {
+            return readElements(driver, driver.findElements(locator), attributes);
+        }
+        return run(driver, "each", Collections.singletonList(args), attributes);
+    }
+
+    /**
+     * Read elements that were already located
+     * @param driver WebDriver instance
+     * @param elements elements
+     * @param attributes attribute names to read
+     * @return element states in the same order
+     */
+    public static List<ElementState> readElements(WebDriver driver, List<WebElement> elements, String... attributes) {
+        if (elements.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return run(driver, "elements", elements, attributes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ElementState> run(WebDriver driver, String mode, List<?> targets, String... attributes) {
+        List<Map<String, Object>> raw = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(SCRIPT, mode, targets, Arrays.asList(attributes));
+        List<ElementState> states = new ArrayList<>(raw.size());
+        for (Map<String, Object> item : raw) {
+            Map<String, String> values = new HashMap<>();
+            ((Map<String, Object>) item.get("attributes")).forEach((name, value) ->
+                    values.put(name, value == null ? null : String.valueOf(value)));
+            states.add(new ElementState(Boolean.TRUE.equals(item.get("present")),
+                    Boolean.TRUE.equals(item.get("visible")), (String) item.get("text"), values));
+        }
+        return states;
+    }
+
+    /**
+     * Fallback for locators the page cannot evaluate (link text) - plain WebDriver calls
+     */
+    private static List<ElementState> readOneByOne(WebDriver driver, List<By> locators, String... attributes) {
+        List<ElementState> states = new ArrayList<>();
+        for (By locator : locators) {
+            List<WebElement> found = driver.findElements(locator);
+            if (found.isEmpty()) {
+                states.add(new ElementState(false, false, "", Collections.emptyMap()));
+                continue;
+            }
+            WebElement element = found.get(0);
+            Map<String, String> values = new HashMap<>();
+            for (String attribute : attributes) {
+                values.put(attribute, element.getAttribute(attribute));
+            }
+            boolean visible = element.isDisplayed();
+            states.add(new ElementState(true, visible, visible ? element.getText().trim() : "", values));
+        }
+        return states;
+    }
+
+    /**
+     * Element State - One element as read by a batch
+     */
+    public static class ElementState {
+
+        private final boolean present;
+        private final boolean visible;
+        private final String text;
+        private final Map<String, String> attributes;
+
+        ElementState(boolean present, boolean visible, String text, Map<String, String> attributes) {
+            this.present = present;
+            this.visible = visible;
+            this.text = text == null ? "" : text;
+            this.attributes = attributes;
+        }
+
+        /**
+         * @return true if the locator matched an element
+         */
+        public boolean isPresent() {
+            return present;
+        }
+
+        /**
+         * @return true if the element is displayed
+         */
+        public boolean isVisible() {
+            return visible;
+        }
+
+        /**
+         * @return rendered text, empty for hidden or missing elements
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @param name attribute requested in the batch
+         * @return attribute value, or null when missing
+         */
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Download Directory - One temporary download directory per browser session
+ * Sessions never see each other's files, so page objects resolve a download by name
+ * instead of scanning a shared folder, and parallel sessions cannot collide.
+ *
+ * Lifecycle: created at launch (DriverManager), emptied when a pooled browser goes back to
+ * the pool, removed when the browser quits. download.retention=archive moves the files to
+ * download.root/archive instead of deleting them.
+ */
+public final class DownloadDirectory {
+
+    private static final Map<WebDriver, Path> directories = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private DownloadDirectory() {
+    }
+
+    /**
+     * Create a fresh directory under download.root for a session about to launch
+     * @return absolute directory path
+     */
+    public static Path create() {
+        try {
+            Path root = root();
+            Files.createDirectories(root);
+            return Files.createTempDirectory(root, "session-");
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot create download directory under " + root(), e);
+        }
+    }
+
+    /**
+     * Attach a directory created by create() to its session
+     * @param driver WebDriver instance
+     * @param directory directory the browser was launched with
+     */
+    public static void bind(WebDriver driver, Path directory) {
+        directories.put(driver, directory);
+    }
+
+    /**
+     * Download directory of a session
+     * @param driver WebDriver instance
+     * @return the session's directory
+     */
+    public static Path of(WebDriver driver) {
+        Path directory = directories.get(driver);
+        if (directory == null) {
+            // Falling back to a shared folder would mix the downloads of parallel sessions
+            throw new RuntimeException("No download directory for this driver - sessions must be launched"
+                    + " through DriverManager and looked up with the driver tests use");
+        }
+        return directory;
+    }
+
+    /**
+     * Empty the session's directory - the files belonged to the test that just finished
+     * @param driver WebDriver instance
+     */
+    public static void clear(WebDriver driver) {
+        Path directory = directories.get(driver);
+        if (directory != null) {
+            dispose(directory, false);
+        }
+    }
+
+    /**
+     * Remove the session's directory once the browser has quit
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        Path directory = directories.remove(driver);
+        if (directory != null) {
+            dispose(directory, true);
+        }
+    }
+
+    /**
+     * Delete or archive the files of a directory, and the directory itself if asked
+     */
+    private static void dispose(Path directory, boolean removeDirectory) {
+        boolean archive = ConfigReader.getInstance().getProperty("download.retention", "delete").equalsIgnoreCase("archive");
+        try (Stream<Path> files = Files.list(directory)) {
+            Path[] entries = files.toArray(Path[]::new);
+            if (archive && entries.length > 0) {
+                Path target = root().resolve("archive")
+                        .resolve(directory.getFileName() + "-" + LocalDateTime.now().format(STAMP));
+                Files.createDirectories(target);
+                for (Path entry : entries) {
+                    Files.move(entry, target.resolve(entry.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } else {
+                for (Path entry : entries) {
+                    delete(entry);
+                }
+            }
+            if (removeDirectory) {
+                Files.deleteIfExists(directory);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("Error cleaning download directory " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static void delete(Path path) throws IOException {
+        try (Stream<Path> tree = Files.walk(path)) {
+            for (Path entry : (Iterable<Path>) tree.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(entry);
+            }
+        }
+    }
+
+    private static Path root() {
+        return Paths.get(ConfigReader.getInstance().getProperty("download.root", "target/downloads")).toAbsolutePath();
+    }
+}
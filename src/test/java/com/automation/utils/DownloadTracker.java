@@ -0,0 +1,259 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Download Tracker - Completes a future with the exact path of a download once the
+ * file is fully written, instead of sleeping and scanning the download directory
+ *
+ * Chromium: Browser.setDownloadBehavior (allowAndName) with download events; the
+ * completed file is moved from its GUID name to the suggested file name.
+ * Other browsers: a WatchService on the download directory, completing on the first
+ * new file that is not a partial download (.crdownload, .part, .tmp).
+ *
+ * Usage: arm before the click that starts the download
+ *     CompletableFuture&lt;Path&gt; download = DownloadTracker.expect(driver, Duration.ofSeconds(30));
+ *     click(downloadLink);
+ *     Path file = download.join();
+ */
+public final class DownloadTracker {
+
+    private static final Map<WebDriver, CdpDownloads> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DownloadTracker() {
+    }
+
+    /**
+     * Expect the next download of the session
+     * @param driver WebDriver instance
+     * @param timeout time allowed for the download to start and finish
+     * @return future of the downloaded file; fails with TimeoutException after the timeout,
+     *         or with IOException when the browser cancels the download
+     */
+    public static CompletableFuture<Path> expect(WebDriver driver, Duration timeout) {
+        Path directory = DownloadDirectory.of(driver).toAbsolutePath();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot create download directory " + directory, e);
+        }
+        CompletableFuture<Path> download;
+        if (driver instanceof HasDevTools) {
+            CdpDownloads cdp;
+            synchronized (sessions) {
+                cdp = sessions.computeIfAbsent(driver, d -> new CdpDownloads(((HasDevTools) d).getDevTools()));
+            }
+            download = cdp.expect(directory);
+        } else {
+            download = watch(directory, timeout);
+        }
+        return download.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancel the session's downloads that are still in flight (Browser.cancelDownload)
+     * and fail their futures, e.g. before a pooled browser is handed to the next test
+     * @param driver WebDriver instance
+     */
+    public static void cancelPending(WebDriver driver) {
+        CdpDownloads cdp = sessions.get(driver);
+        if (cdp != null) {
+            cdp.cancelAll();
+        }
+    }
+
+    /**
+     * Download timeout from download.timeoutSeconds in config.properties
+     * @return timeout
+     */
+    public static Duration defaultTimeout() {
+        return Duration.ofSeconds(ConfigReader.getInstance().getIntProperty("download.timeoutSeconds", 30));
+    }
+
+    // ---------------------------------------------------------------------
+    // Chromium - download events
+    // ---------------------------------------------------------------------
+
+    /**
+     * CDP Downloads - Download events of one session, matched to armed futures by GUID
+     */
+    private static class CdpDownloads {
+
+        private final DevTools devTools;
+        private final Map<String, Started> started = new ConcurrentHashMap<>();
+        private volatile CompletableFuture<Path> armed;
+        private volatile Path directory;
+
+        CdpDownloads(DevTools devTools) {
+            this.devTools = devTools;
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(new Event<Map<String, Object>>("Browser.downloadWillBegin", input -> input.read(Json.MAP_TYPE)),
+                    this::onBegin);
+            devTools.addListener(new Event<Map<String, Object>>("Browser.downloadProgress", input -> input.read(Json.MAP_TYPE)),
+                    this::onProgress);
+        }
+
+        synchronized CompletableFuture<Path> expect(Path directory) {
+            // Re-applied on every arm: BrowserPool resets the behaviour when a session is released
+            Map<String, Object> behavior = new HashMap<>();
+            behavior.put("behavior", "allowAndName");
+            behavior.put("downloadPath", directory.toString());
+            behavior.put("eventsEnabled", true);
+            devTools.send(new Command<Void>("Browser.setDownloadBehavior", behavior));
+            this.directory = directory;
+            CompletableFuture<Path> download = new CompletableFuture<>();
+            armed = download;
+            return download;
+        }
+
+        synchronized void cancelAll() {
+            if (armed != null) {
+                armed.completeExceptionally(new IOException("Download canceled: the session was released"));
+                armed = null;
+            }
+            for (String guid : new ArrayList<>(started.keySet())) {
+                Started download = started.remove(guid);
+                if (download == null) {
+                    continue;   // Finished meanwhile
+                }
+                Map<String, Object> params = new HashMap<>();
+                params.put("guid", guid);
+                try {
+                    devTools.send(new Command<Void>("Browser.cancelDownload", params));
+                } catch (Exception e) {
+                    // Already finished or canceled in the browser
+                }
+                download.future.completeExceptionally(new IOException("Download canceled: " + download.fileName));
+            }
+        }
+
+        private synchronized void onBegin(Map<String, Object> event) {
+            CompletableFuture<Path> download = armed;
+            if (download == null || download.isDone()) {
+                return;
+            }
+            armed = null;
+            started.put(String.valueOf(event.get("guid")),
+                    new Started(download, directory, String.valueOf(event.get("suggestedFilename"))));
+        }
+
+        private void onProgress(Map<String, Object> event) {
+            String state = String.valueOf(event.get("state"));
+            if ("inProgress".equals(state)) {
+                return;
+            }
+            String guid = String.valueOf(event.get("guid"));
+            Started download = started.remove(guid);
+            if (download == null) {
+                return;
+            }
+            if (!"completed".equals(state)) {
+                download.future.completeExceptionally(new IOException("Download " + state + ": " + download.fileName));
+                return;
+            }
+            // allowAndName writes <directory>/<guid>; give the file its real name
+            try {
+                Path target = download.directory.resolve(download.fileName);
+                Files.move(download.directory.resolve(guid), target, StandardCopyOption.REPLACE_EXISTING);
+                download.future.complete(target);
+            } catch (IOException e) {
+                download.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class Started {
+        final CompletableFuture<Path> future;
+        final Path directory;
+        final String fileName;
+
+        Started(CompletableFuture<Path> future, Path directory, String fileName) {
+            this.future = future;
+            this.directory = directory;
+            this.fileName = fileName.isEmpty() ? "download" : Paths.get(fileName).getFileName().toString();
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Other browsers - directory watch
+    // ---------------------------------------------------------------------
+
+    private static CompletableFuture<Path> watch(Path directory, Duration timeout) {
+        CompletableFuture<Path> download = new CompletableFuture<>();
+        WatchService watcher;
+        try {
+            watcher = FileSystems.getDefault().newWatchService();
+            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            download.completeExceptionally(e);
+            return download;
+        }
+        Thread thread = new Thread(() -> {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            try (WatchService service = watcher) {
+                while (!download.isDone() && System.nanoTime() < deadline) {
+                    WatchKey key = service.poll(100, TimeUnit.MILLISECONDS);
+                    if (key == null) {
+                        continue;
+                    }
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.context() instanceof Path) {
+                            Path file = directory.resolve((Path) event.context());
+                            if (isComplete(file)) {
+                                download.complete(file);
+                            }
+                        }
+                    }
+                    key.reset();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | ClosedWatchServiceException e) {
+                download.completeExceptionally(e);
+            }
+        }, "download-watch");
+        thread.setDaemon(true);
+        thread.start();
+        return download;
+    }
+
+    /**
+     * A finished download: not a browser temp file and no partial sibling left
+     * (Firefox writes name.part and Chrome name.crdownload, then rename to the final name)
+     */
+    private static boolean isComplete(Path file) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(".crdownload") || name.endsWith(".part") || name.endsWith(".tmp")) {
+            return false;
+        }
+        return Files.isRegularFile(file)
+                && !Files.exists(file.resolveSibling(name + ".part"))
+                && !Files.exists(file.resolveSibling(name + ".crdownload"));
+    }
+}
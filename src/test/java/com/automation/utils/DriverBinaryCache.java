@@ -0,0 +1,198 @@
+package com.automation.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.DriverManagerType;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Driver Binary Cache - Resolves driver binaries once per JVM
+ * and remembers the browser version -> driver path mapping on disk,
+ * so later runs need no network access at all
+ */
+public class DriverBinaryCache {
+
+    private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+)\\.\\d+(\\.\\d+)*");
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Make sure the driver binary for the browser is resolved and exported
+     * as the matching webdriver.*.driver system property
+     * @param browser browser name (chrome, firefox, edge)
+     */
+    public static void setup(String browser) {
+        String driverPath = resolved.computeIfAbsent(browser, DriverBinaryCache::resolve);
+        System.setProperty(driverProperty(browser), driverPath);
+    }
+
+    /**
+     * Resolve from the on-disk mapping, falling back to WebDriverManager when online
+     */
+    private static synchronized String resolve(String browser) {
+        ConfigReader config = ConfigReader.getInstance();
+        boolean offline = Boolean.parseBoolean(config.getProperty("driverCache.offline", "false"));
+        Path mappingFile = mappingFile();
+        Properties mapping = load(mappingFile);
+
+        String browserVersion = detectBrowserVersion(browser);
+        boolean known = !"unknown".equals(browserVersion);
+        String key = browser + "." + browserVersion;
+        // Without a version a mapping could not tell that the browser was upgraded - resolve fresh
+        String cachedPath = known ? mapping.getProperty(key) : null;
+
+        if (cachedPath != null && new File(cachedPath).canExecute()) {
+            System.out.println("Using cached " + browser + " driver: " + cachedPath);
+            return cachedPath;
+        }
+
+        if (offline) {
+            if (!known) {
+                throw new RuntimeException("Cannot use the driver cache offline: the " + browser
+                        + " version is unknown. Pin it with driverCache.browserVersion");
+            }
+            if (cachedPath != null) {
+                throw new RuntimeException("Stale driver cache: " + key + " points to " + cachedPath
+                        + " which no longer exists. Re-run once with driverCache.offline=false to refresh "
+                        + mappingFile);
+            }
+            throw new RuntimeException("No cached driver for " + browser + " version " + browserVersion
+                    + " in " + mappingFile + " (cached: " + mapping.stringPropertyNames()
+                    + "). The browser was probably updated; re-run once with driverCache.offline=false to refresh");
+        }
+
+        if (cachedPath != null) {
+            System.out.println("Cached " + browser + " driver is missing, resolving again: " + cachedPath);
+        }
+        WebDriverManager wdm = WebDriverManager.getInstance(driverManagerType(browser));
+        if (!known) {
+            wdm.setup();
+            System.out.println("Resolved " + browser + " driver without caching (browser version unknown): "
+                    + wdm.getDownloadedDriverPath());
+            return wdm.getDownloadedDriverPath();
+        }
+        wdm.browserVersion(browserVersion);
+        wdm.setup();
+        String driverPath = wdm.getDownloadedDriverPath();
+
+        mapping.setProperty(key, driverPath);
+        store(mappingFile, mapping);
+        System.out.println("Cached " + browser + " driver for version " + browserVersion + ": " + driverPath);
+        return driverPath;
+    }
+
+    /**
+     * Detect the installed browser's major version without network access
+     * Can be pinned with driverCache.browserVersion when detection is not possible
+     * @return major version, or "unknown"
+     */
+    private static String detectBrowserVersion(String browser) {
+        String pinned = ConfigReader.getInstance().getProperty("driverCache.browserVersion", "");
+        if (!pinned.isEmpty()) {
+            return pinned;
+        }
+        try {
+            Optional<Path> browserPath = WebDriverManager.getInstance(driverManagerType(browser)).getBrowserPath();
+            if (browserPath.isEmpty()) {
+                return "unknown";
+            }
+            Process process = new ProcessBuilder(browserPath.get().toString(), "--version")
+                    .redirectErrorStream(true)
+                    .start();
+            String output;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                output = reader.readLine();
+            }
+            process.waitFor(10, TimeUnit.SECONDS);
+            if (output != null) {
+                Matcher matcher = VERSION_PATTERN.matcher(output);
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Could not detect " + browser + " version: " + e.getMessage());
+        }
+        return "unknown";
+    }
+
+    /**
+     * Location of the mapping file, outside target/ so it survives mvn clean
+     */
+    private static Path mappingFile() {
+        String defaultPath = System.getProperty("user.home") + "/.cache/ecommerce-automation/drivers.properties";
+        return Paths.get(ConfigReader.getInstance().getProperty("driverCache.path", defaultPath));
+    }
+
+    private static Properties load(Path file) {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                properties.load(input);
+            } catch (IOException e) {
+                System.out.println("Ignoring unreadable driver cache " + file + ": " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Write through a temp file so a concurrent reader never sees a partial mapping
+     */
+    private static void store(Path file, Properties properties) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "drivers", ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                properties.store(output, "browser.majorVersion=driverPath");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Could not persist driver cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static DriverManagerType driverManagerType(String browser) {
+        switch (browser) {
+            case "chrome":
+                return DriverManagerType.CHROME;
+            case "firefox":
+                return DriverManagerType.FIREFOX;
+            case "edge":
+                return DriverManagerType.EDGE;
+            default:
+                throw new RuntimeException("Unsupported browser: " + browser);
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                throw new RuntimeException("Unsupported browser: " + browser);
+        }
+    }
+}
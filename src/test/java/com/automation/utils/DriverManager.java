@@ -1,67 +1,131 @@
 package com.automation.utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Driver Manager - Manages WebDriver instances
- * Demonstrates Singleton pattern and Encapsulation
+ * Each worker thread owns its own session, so tests can run in parallel
+ * without sharing browser state
  */
 public class DriverManager {
 
-    private static WebDriver driver;
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
 
     /**
-     * Get WebDriver instance (creates if not exists)
+     * Get WebDriver instance for the current thread (creates if not exists)
      * @return WebDriver instance
      */
     public static WebDriver getDriver() {
-        if (driver == null) {
-            String browser = ConfigReader.getInstance().getProperty("browser").toLowerCase();
-            driver = createDriver(browser);
-            configureDriver();
-
-            // Apply ad-blocking for Chrome via DevTools Protocol
-            if (browser.equals("chrome")) {
-                blockAdsCDP(driver);
+        WebDriver webDriver = driver.get();
+        if (webDriver == null) {
+            webDriver = BrowserPool.isEnabled() ? BrowserPool.getInstance().lease() : createSession();
+            driver.set(webDriver);
+        }
+        return webDriver;
+    }
+
+    /**
+     * Check if the current thread holds a browser, without starting one
+     * @return true after getDriver() until quitDriver()
+     */
+    public static boolean hasDriver() {
+        return driver.get() != null;
+    }
+
+    /**
+     * Launch and configure a new browser session
+     * Used directly, or by BrowserPool to fill the pool
+     * @return WebDriver instance
+     */
+    static WebDriver createSession() {
+        long start = System.currentTimeMillis();
+        String browser = ConfigReader.getInstance().getProperty("browser").toLowerCase();
+        Path downloads = DownloadDirectory.create();
+        WebDriver webDriver;
+        try {
+            webDriver = createDriver(browser, downloads.toString());
+        } catch (RuntimeException e) {
+            try {
+                Files.deleteIfExists(downloads);
+            } catch (IOException ignored) {
+                // Leftover empty directory under download.root
             }
+            throw e;
+        }
+        // Decorate first, so per-session state everywhere is keyed by the driver tests use
+        if (CommandMetrics.isEnabled()) {
+            webDriver = new EventFiringDecorator<>(new CommandTimingListener()).decorate(webDriver);
+        }
+        DownloadDirectory.bind(webDriver, downloads);
+        configureDriver(webDriver);
+        BrowserProfileStats.recordStartup(System.currentTimeMillis() - start);
+
+        // Apply ad-blocking and lean page support for Chrome via DevTools Protocol
+        if (browser.equals("chrome")) {
+            configureNetwork(webDriver);
+        }
+        return webDriver;
+    }
+
+    /**
+     * The browser-specific driver behind a decorated one, for ChromiumDriver-only calls
+     * @param webDriver WebDriver instance, decorated or not
+     * @return undecorated driver
+     */
+    public static WebDriver unwrap(WebDriver webDriver) {
+        while (webDriver instanceof WrapsDriver) {
+            webDriver = ((WrapsDriver) webDriver).getWrappedDriver();
         }
-        return driver;
+        return webDriver;
+    }
+
+    /**
+     * Get the directory a session downloads files into
+     * Every session launched here has its own directory (DownloadDirectory)
+     * @param webDriver WebDriver instance
+     * @return download directory path
+     */
+    public static String getDownloadPath(WebDriver webDriver) {
+        return DownloadDirectory.of(webDriver).toString();
     }
 
     /**
      * Create driver based on browser type
      * @param browser browser name
+     * @param downloadPath download directory of the new session
      * @return WebDriver instance
      */
-    private static WebDriver createDriver(String browser) {
+    private static WebDriver createDriver(String browser, String downloadPath) {
         WebDriver webDriver;
+        BrowserProfile profile = BrowserProfile.current();
 
         switch (browser) {
             case "chrome":
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions options = getChromeOptions();
-                webDriver = new ChromeDriver(options);
+                DriverBinaryCache.setup(browser);
+                webDriver = new ChromeDriver(profile.chromeOptions(downloadPath));
                 break;
 
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                webDriver = new FirefoxDriver();
+                DriverBinaryCache.setup(browser);
+                webDriver = new FirefoxDriver(profile.firefoxOptions(downloadPath));
                 break;
 
             case "edge":
-                WebDriverManager.edgedriver().setup();
-                webDriver = new EdgeDriver();
+                DriverBinaryCache.setup(browser);
+                webDriver = new EdgeDriver(profile.edgeOptions(downloadPath));
                 break;
 
             default:
@@ -71,81 +135,97 @@ public class DriverManager {
         return webDriver;
     }
 
-    /**
-     * Get Chrome options with custom settings
-     * @return ChromeOptions
-     */
-    private static ChromeOptions getChromeOptions() {
-        ChromeOptions options = new ChromeOptions();
-
-        // Page load strategy NORMAL
-        options.setPageLoadStrategy(PageLoadStrategy.NORMAL);
-
-        // Download directory
-        Map<String, Object> prefs = new HashMap<>();
-        String downloadPath = System.getProperty("user.home") + "/Downloads";
-        prefs.put("download.default_directory", downloadPath);
-        prefs.put("download.prompt_for_download", false);
-        prefs.put("plugins.always_open_pdf_externally", true);
-        options.setExperimentalOption("prefs", prefs);
-
-        // Performance / stability options
-        options.addArguments("--disable-notifications");
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--remote-allow-origins=*");
-
-        // Uncomment for headless mode
-        // options.addArguments("--headless=new");
-
-        return options;
-    }
-
     /**
      * Configure driver with common settings
      */
-    private static void configureDriver() {
-        driver.manage().window().maximize();
+    private static void configureDriver(WebDriver driver) {
+        // Tuned profiles already launch with a fixed viewport
+        if (BrowserProfile.current().maximizeWindow()) {
+            driver.manage().window().maximize();
+        }
         driver.manage().deleteAllCookies();
 
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(5));
+        // No implicit wait - page objects use explicit waits with their own budgets (BasePage)
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
     }
 
     /**
-     * Quit driver and clean up
+     * Quit the current thread's driver and clean up
+     * Pooled browsers are reset and returned to the pool instead
+     * Safe to call when no driver was created
      */
     public static void quitDriver() {
-        if (driver != null) {
+        WebDriver webDriver = driver.get();
+        if (webDriver != null) {
+            SessionCache.getInstance().detach(webDriver);
             try {
-                driver.quit();
+                if (BrowserPool.isEnabled()) {
+                    // Pooled browsers outlive the test, so never leak its lean profile
+                    ResourceBlocker.apply(webDriver, null);
+                    NetworkArchive.resetSession(webDriver);
+                    DownloadDirectory.clear(webDriver);
+                    BrowserPool.getInstance().release(webDriver);
+                } else {
+                    webDriver.quit();
+                    DownloadDirectory.release(webDriver);
+                }
             } catch (Exception e) {
                 System.out.println("Error quitting driver: " + e.getMessage());
             } finally {
-                driver = null;
+                driver.remove();
             }
         }
     }
 
     /**
-     * Block common ad URLs using Chrome DevTools Protocol
+     * Activate a lean page profile for the current thread's browser until it is quit or released
+     * @param profile profile from a test's @LeanPage annotation
      */
-    private static void blockAdsCDP(WebDriver driver) {
+    public static void applyLeanProfile(LeanPage profile) {
+        if (!ResourceBlocker.apply(getDriver(), profile)) {
+            System.out.println("Lean page profile ignored: request interception is not available for this browser");
+        }
+    }
+
+    /**
+     * Install request interception for a Chrome session
+     * adblock.mode=fetch matches every request against the compiled filter lists,
+     * adblock.mode=blockedUrls sends a reduced host list to Network.setBlockedURLs.
+     * The lean page resource blocker is always installed and stays idle until a profile is applied
+     */
+    private static void configureNetwork(WebDriver driver) {
+        String mode = ConfigReader.getInstance().getProperty("adblock.mode", "fetch");
+        RequestInterceptor interceptor = null;
+        try {
+            interceptor = RequestInterceptor.attach(driver);
+        } catch (Exception e) {
+            System.out.println("Fetch interception unavailable: " + e.getMessage());
+            if (!NetworkArchive.mode().equals("live")) {
+                throw new RuntimeException("network.mode=" + NetworkArchive.mode() + " needs CDP request interception", e);
+            }
+        }
+
+        if (interceptor != null) {
+            if (mode.equals("fetch")) {
+                interceptor.addHandler(AdBlockFilterEngine.getInstance().asHandler());
+            }
+            ResourceBlocker.attach(interceptor, driver);
+            NetworkArchive.attach(interceptor, driver);
+            if (mode.equals("fetch")) {
+                return;
+            }
+        }
+        if (mode.equals("off")) {
+            return;
+        }
         try {
+            int limit = ConfigReader.getInstance().getIntProperty("adblock.maxBlockedUrls", 500);
             Map<String, Object> blockMap = new HashMap<>();
-            blockMap.put("urls", Arrays.asList(
-                    "*://*.doubleclick.net/*",
-                    "*://*.adservice.google.com/*",
-                    "*://*.googlesyndication.com/*",
-                    "*://*.googleadservices.com/*",
-                    "*://*.adroll.com/*",
-                    "*://*.taboola.com/*"
-            ));
-            ((ChromeDriver) driver).executeCdpCommand("Network.setBlockedURLs", blockMap);
-            ((ChromeDriver) driver).executeCdpCommand("Network.enable", new HashMap<>());
+            blockMap.put("urls", AdBlockFilterEngine.getInstance().toBlockedUrlPatterns(limit));
+            ChromiumDriver browser = (ChromiumDriver) unwrap(driver);
+            browser.executeCdpCommand("Network.setBlockedURLs", blockMap);
+            browser.executeCdpCommand("Network.enable", new HashMap<>());
         } catch (Exception e) {
             System.out.println("Error enabling ad-blocking via CDP: " + e.getMessage());
         }
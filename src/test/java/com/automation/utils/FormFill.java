@@ -0,0 +1,82 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Form Fill - Sets the values of many form fields in a single executeScript
+ * Each value goes through the native value setter followed by bubbling input and change
+ * events, which is what the page's own listeners (and frameworks tracking input state) see
+ * when a user types. Fields the script cannot fill are returned to the caller, which types
+ * them with sendKeys.
+ * Selected with form.fillMode in config.properties: script | keys
+ */
+public final class FormFill {
+
+    // Only visible, enabled, writable input/textarea/select elements are filled in the page
+    private static final String SCRIPT = PageScripts.LOCATE + PageScripts.VISIBLE
+            + "var fields = arguments[0], missed = [];"
+            + "fields.forEach(function (field, index) {"
+            + "  var el = locate(field[0], field[1])[0];"
+            + "  var proto = el instanceof HTMLInputElement ? HTMLInputElement.prototype"
+            + "    : el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+            + "    : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : null;"
+            + "  if (!proto || !visible(el) || el.disabled || el.readOnly) { missed.push(index); return; }"
+            + "  el.focus();"
+            + "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, field[2]);"
+            + "  el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  if (el.value !== field[2]) missed.push(index);"
+            + "});"
+            + "if (document.activeElement) document.activeElement.blur();"
+            + "return missed;";
+
+    private FormFill() {
+    }
+
+    /**
+     * Check if script filling is selected in config.properties
+     * @return true for form.fillMode=script (default)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getProperty("form.fillMode", "script").equalsIgnoreCase("script");
+    }
+
+    /**
+     * Fill fields in one round trip
+     * @param driver WebDriver instance
+     * @param values locator to value, filled in iteration order
+     * @return locators that were not filled (not rendered yet, not a form field,
+     *         link-text locators) - type these with sendKeys
+     */
+    @SuppressWarnings("unchecked")
+    public static List<By> fill(WebDriver driver, Map<By, String> values) {
+        List<By> locators = new ArrayList<>();
+        List<By> missed = new ArrayList<>();
+        List<List<String>> fields = new ArrayList<>();
+        for (Map.Entry<By, String> entry : values.entrySet()) {
+            List<String> args = PageScripts.args(entry.getKey());
+            if (args == null) {
+                missed.add(entry.getKey());
+                continue;
+            }
+            List<String> field = new ArrayList<>(args);
+            field.add(entry.getValue());
+            fields.add(field);
+            locators.add(entry.getKey());
+        }
+        if (fields.isEmpty()) {
+            return missed;
+        }
+        List<Number> indexes = (List<Number>) ((JavascriptExecutor) driver).executeScript(SCRIPT, fields);
+        for (Number index : indexes) {
+            missed.add(locators.get(index.intValue()));
+        }
+        return missed;
+    }
+}
@@ -0,0 +1,67 @@
+package com.automation.utils;
+
+import java.math.BigDecimal;
+
+/**
+ * Invoice - Fields of a downloaded invoice, as read by InvoiceParser
+ * "Hi <customer>, Your total purchase amount is <amount>. Thank you"
+ */
+public final class Invoice {
+
+    private final String orderId;
+    private final String customerName;
+    private final BigDecimal amount;
+
+    Invoice(String orderId, String customerName, BigDecimal amount) {
+        this.orderId = orderId;
+        this.customerName = customerName;
+        this.amount = amount;
+    }
+
+    /**
+     * @return order id from the invoice link or file name, or null when unknown
+     */
+    public String getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * @return customer name as greeted - the account holder on the live site, the name on
+     *         card on the stand-in - or null when the greeting was not found
+     */
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    /**
+     * @return total purchase amount, or null when it was not found
+     */
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    /**
+     * @return true if both the customer name and the amount were found
+     */
+    public boolean isComplete() {
+        return customerName != null && amount != null;
+    }
+
+    /**
+     * Check if the greeting names a customer - whole words, so "Tester" matches "Tester Smith"
+     * but not "Testers"
+     * @param name expected name, one or more words
+     * @return true if the customer name contains the name as whole words
+     */
+    public boolean isFor(String name) {
+        if (customerName == null || name == null || name.trim().isEmpty()) {
+            return false;
+        }
+        return (" " + customerName.replaceAll("\\s+", " ") + " ").contains(" " + name.trim().replaceAll("\\s+", " ") + " ");
+    }
+
+    @Override
+    public String toString() {
+        return "Invoice{order=" + orderId + ", customer=" + customerName + ", amount=" + amount + "}";
+    }
+}
@@ -0,0 +1,204 @@
+package com.automation.utils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Invoice Parser - Streaming parser that turns invoice text into an Invoice
+ * Reads the text in chunks with a small state machine: nothing is joined or kept
+ * except the two fields, and parsing stops as soon as both are found.
+ *
+ * Validate an archive of invoices in parallel (download.root/archive by default):
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.automation.utils.InvoiceParser [-Dexec.args="dir threads"]
+ */
+public final class InvoiceParser {
+
+    private static final String GREETING = "hi ";
+    private static final String AMOUNT = "amount is ";
+    private static final Pattern ORDER_ID = Pattern.compile("(\\d+)(?!.*\\d)");
+
+    private enum State { GREETING, NAME, AMOUNT_LABEL, AMOUNT, DONE }
+
+    private InvoiceParser() {
+    }
+
+    /**
+     * Parse invoice text
+     * @param reader invoice text, read until both fields are found (not closed here)
+     * @param orderId order id, when the caller knows it (link or file name)
+     * @return parsed invoice - check isComplete()
+     * @throws IOException if reading fails
+     */
+    public static Invoice parse(Reader reader, String orderId) throws IOException {
+        StringBuilder name = new StringBuilder();
+        StringBuilder amount = new StringBuilder();
+        State state = State.GREETING;
+        int matched = 0;
+        char previous = ' ';
+        char[] buffer = new char[2048];
+        int read;
+        while (state != State.DONE && (read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read && state != State.DONE; i++) {
+                char c = buffer[i];
+                switch (state) {
+                    case GREETING:
+                        // "Hi" must start a word ("Chi " is not a greeting)
+                        matched = matched == 0 && Character.isLetter(previous) ? 0 : advance(GREETING, matched, c);
+                        if (matched == GREETING.length()) {
+                            state = State.NAME;
+                        }
+                        break;
+                    case NAME:
+                        if (c == ',' || c == '\n') {
+                            state = State.AMOUNT_LABEL;
+                            matched = 0;
+                        } else {
+                            name.append(c);
+                        }
+                        break;
+                    case AMOUNT_LABEL:
+                        matched = advance(AMOUNT, matched, c);
+                        if (matched == AMOUNT.length()) {
+                            state = State.AMOUNT;
+                        }
+                        break;
+                    case AMOUNT:
+                        if (Character.isDigit(c) || (c == '.' && amount.length() > 0 && amount.indexOf(".") < 0)) {
+                            amount.append(c);
+                        } else if (c != ',' || amount.length() == 0) {
+                            // Thousands separators are skipped; anything else (e.g. a second '.') ends the number
+                            state = amount.length() > 0 ? State.DONE : State.AMOUNT;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                previous = c;
+            }
+        }
+        return new Invoice(orderId, state.compareTo(State.AMOUNT_LABEL) >= 0 ? name.toString().trim() : null,
+                toAmount(amount));
+    }
+
+    /**
+     * Parse an invoice file
+     * @param file invoice file; the order id is taken from the last number in the file name
+     * @return parsed invoice
+     * @throws IOException if the file cannot be read
+     */
+    public static Invoice parse(Path file) throws IOException {
+        // parse() reads in chunks itself, so no BufferedReader on top
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+            return parse(reader, orderId(file.getFileName().toString()));
+        }
+    }
+
+    /**
+     * Order id from an invoice link or file name - its last number
+     * @param source e.g. https://automationexercise.com/download_invoice/1001
+     * @return order id, or null when the source has no number
+     */
+    public static String orderId(String source) {
+        if (source == null) {
+            return null;
+        }
+        Matcher matcher = ORDER_ID.matcher(source);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Parse many invoice files in parallel
+     * @param files invoice files
+     * @param threads worker threads
+     * @return invoices in the order of the files
+     */
+    public static List<Invoice> parseAll(Collection<Path> files, int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Invoice>> futures = new ArrayList<>(files.size());
+            for (Path file : files) {
+                futures.add(executor.submit(() -> parse(file)));
+            }
+            List<Invoice> invoices = new ArrayList<>(files.size());
+            for (Future<Invoice> future : futures) {
+                invoices.add(future.get());
+            }
+            return invoices;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while parsing invoices", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error parsing invoice: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Validate every *.txt invoice under a directory and print the incomplete ones
+     */
+    public static void main(String[] args) throws IOException {
+        Path root = args.length > 0 ? Paths.get(args[0])
+                : Paths.get(ConfigReader.getInstance().getProperty("download.root", "target/downloads"), "archive");
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        List<Path> files;
+        try (Stream<Path> tree = Files.walk(root)) {
+            files = tree.filter(path -> path.toString().endsWith(".txt")).collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        long start = System.nanoTime();
+        List<Invoice> invoices = parseAll(files, threads);
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+        int incomplete = 0;
+        for (int i = 0; i < invoices.size(); i++) {
+            if (!invoices.get(i).isComplete()) {
+                incomplete++;
+                System.out.println("Incomplete invoice: " + files.get(i) + " -> " + invoices.get(i));
+            }
+        }
+        System.out.printf("Validated %d invoices with %d threads in %.1f ms, %d incomplete%n",
+                invoices.size(), threads, millis, incomplete);
+    }
+
+    /**
+     * Case-insensitive literal matching; the labels have no repeated prefix,
+     * so a mismatch restarts at the current character
+     */
+    private static int advance(String label, int matched, char c) {
+        char lower = Character.toLowerCase(c);
+        if (lower == label.charAt(matched)) {
+            return matched + 1;
+        }
+        return lower == label.charAt(0) ? 1 : 0;
+    }
+
+    private static BigDecimal toAmount(StringBuilder digits) {
+        int end = digits.length();
+        while (end > 0 && digits.charAt(end - 1) == '.') {
+            end--;
+        }
+        return end == 0 ? null : new BigDecimal(digits.substring(0, end));
+    }
+}
@@ -0,0 +1,112 @@
+package com.automation.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Invoice Parser Benchmark - Compares InvoiceParser with the previous verification
+ * (Files.readAllLines, join, two substring checks) on a generated invoice archive
+ * Each approach gets warmup rounds before the measured rounds; the best and mean
+ * round times are printed, plus the parallel parseAll over the same files.
+ *
+ * Run: mvn test-compile exec:java -Dexec.classpathScope=test
+ *      -Dexec.mainClass=com.automation.utils.InvoiceParserBenchmark [-Dexec.args="files rounds"]
+ */
+public class InvoiceParserBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private interface Check {
+        boolean verify(Path file) throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        Path directory = Files.createTempDirectory("invoice-bench");
+        try {
+            List<Path> files = generate(directory, count);
+
+            System.out.println("=== Invoice Verification (" + count + " files, " + rounds + " rounds) ===");
+            run("readAllLines+join", files, rounds, InvoiceParserBenchmark::joinAndContains);
+            run("InvoiceParser", files, rounds, file -> {
+                Invoice invoice = InvoiceParser.parse(file);
+                return invoice.isComplete() && invoice.getCustomerName().startsWith("Customer");
+            });
+
+            int threads = Runtime.getRuntime().availableProcessors();
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                InvoiceParser.parseAll(files, threads);
+            }
+            long start = System.nanoTime();
+            InvoiceParser.parseAll(files, threads);
+            System.out.printf("%-18s %8.1f ms per round (%d threads)%n", "parseAll",
+                    (System.nanoTime() - start) / 1_000_000.0, threads);
+        } finally {
+            try (Stream<Path> tree = Files.walk(directory)) {
+                for (Path path : (Iterable<Path>) tree.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * The verification InvoicePage used before InvoiceParser
+     */
+    private static boolean joinAndContains(Path file) throws IOException {
+        String content = String.join(" ", Files.readAllLines(file));
+        return content.contains("Customer") && content.toLowerCase().contains("your total purchase amount");
+    }
+
+    private static void run(String name, List<Path> files, int rounds, Check check) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round(files, check);
+        }
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (int i = 0; i < rounds; i++) {
+            long nanos = round(files, check);
+            best = Math.min(best, nanos);
+            total += nanos;
+        }
+        System.out.printf("%-18s %8.1f ms per round (best %.1f ms), %.0f files/s%n", name,
+                total / (double) rounds / 1_000_000.0, best / 1_000_000.0,
+                files.size() / (best / 1_000_000_000.0));
+    }
+
+    private static long round(List<Path> files, Check check) throws IOException {
+        long start = System.nanoTime();
+        int verified = 0;
+        for (Path file : files) {
+            if (check.verify(file)) {
+                verified++;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        if (verified != files.size()) {
+            throw new IllegalStateException("Only " + verified + " of " + files.size() + " invoices verified");
+        }
+        return nanos;
+    }
+
+    private static List<Path> generate(Path directory, int count) throws IOException {
+        Random random = new Random(42);
+        List<Path> files = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Path file = directory.resolve("invoice-" + (1001 + i) + ".txt");
+            String text = "Hi Customer " + i + ", Your total purchase amount is " + (100 + random.nextInt(5000))
+                    + ". Thank you";
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+        return files;
+    }
+}
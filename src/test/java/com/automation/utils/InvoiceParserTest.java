@@ -0,0 +1,113 @@
+package com.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+/**
+ * Invoice Parser Test - Edge cases of the streaming invoice parser, without a browser
+ */
+public class InvoiceParserTest {
+
+    private static final String INVOICE = "Hi Tester Smith, Your total purchase amount is 1,500.50. Thank you";
+
+    private static Invoice parse(String text) throws IOException {
+        return InvoiceParser.parse(new StringReader(text), "1001");
+    }
+
+    private static String padding(int length, char filler) {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) {
+            text.append(filler);
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void testCompleteInvoice() throws IOException {
+        Invoice invoice = parse(INVOICE);
+        Assert.assertTrue(invoice.isComplete());
+        Assert.assertEquals(invoice.getOrderId(), "1001");
+        Assert.assertEquals(invoice.getCustomerName(), "Tester Smith");
+        Assert.assertEquals(invoice.getAmount(), new BigDecimal("1500.50"));
+    }
+
+    @Test
+    public void testGreetingMustStartAWord() throws IOException {
+        Invoice invoice = parse("Chi Wang ordered. Hi Tester, Your total purchase amount is 500 Thank you");
+        Assert.assertEquals(invoice.getCustomerName(), "Tester");
+        Assert.assertEquals(invoice.getAmount(), new BigDecimal("500"));
+    }
+
+    @Test
+    public void testThousandsSeparatorsAreSkipped() throws IOException {
+        Assert.assertEquals(parse("Hi Tester, Your total purchase amount is 1,234,567 Thank you").getAmount(),
+                new BigDecimal("1234567"));
+    }
+
+    @Test
+    public void testSecondDecimalPointEndsTheAmount() throws IOException {
+        Assert.assertEquals(parse("Hi Tester, Your total purchase amount is 1.2.3").getAmount(), new BigDecimal("1.2"));
+        Assert.assertEquals(parse("Hi Tester, Your total purchase amount is 500.").getAmount(), new BigDecimal("500"));
+    }
+
+    @Test
+    public void testFieldsSplitAcrossTheReadBuffer() throws IOException {
+        // The parser reads 2048 chars at a time: put the greeting, then the amount, across that boundary
+        Invoice greetingSplit = parse(padding(2046, '.') + " " + INVOICE);
+        Assert.assertEquals(greetingSplit.getCustomerName(), "Tester Smith");
+        Assert.assertEquals(greetingSplit.getAmount(), new BigDecimal("1500.50"));
+
+        String beforeAmount = "Hi Tester Smith, Your total purchase amount is ";
+        Invoice amountSplit = parse(beforeAmount + padding(2046 - beforeAmount.length(), ' ') + "1,500.50. Thank you");
+        Assert.assertEquals(amountSplit.getAmount(), new BigDecimal("1500.50"));
+    }
+
+    @Test
+    public void testOneCharacterPerRead() throws IOException {
+        Reader trickle = new StringReader(INVOICE) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 1));
+            }
+        };
+        Invoice invoice = InvoiceParser.parse(trickle, null);
+        Assert.assertEquals(invoice.getCustomerName(), "Tester Smith");
+        Assert.assertEquals(invoice.getAmount(), new BigDecimal("1500.50"));
+    }
+
+    @Test
+    public void testIncompleteInvoice() throws IOException {
+        Invoice noAmount = parse("Hi Tester, Your order is being processed");
+        Assert.assertEquals(noAmount.getCustomerName(), "Tester");
+        Assert.assertNull(noAmount.getAmount());
+        Assert.assertFalse(noAmount.isComplete());
+
+        Invoice noGreeting = parse("Your total purchase amount is 500");
+        Assert.assertNull(noGreeting.getCustomerName());
+        Assert.assertFalse(noGreeting.isComplete());
+
+        Assert.assertFalse(parse("").isComplete());
+    }
+
+    @Test
+    public void testCustomerNameMatchesWholeWords() throws IOException {
+        Invoice invoice = parse(INVOICE);
+        Assert.assertTrue(invoice.isFor("Tester"));
+        Assert.assertTrue(invoice.isFor("Tester Smith"));
+        Assert.assertFalse(invoice.isFor("Test"));
+        Assert.assertFalse(invoice.isFor("Smith Tester"));
+        Assert.assertFalse(invoice.isFor(""));
+    }
+
+    @Test
+    public void testOrderIdIsTheLastNumber() {
+        Assert.assertEquals(InvoiceParser.orderId("https://automationexercise.com/download_invoice/1001"), "1001");
+        Assert.assertEquals(InvoiceParser.orderId("invoice-7.txt"), "7");
+        Assert.assertNull(InvoiceParser.orderId("invoice.txt"));
+    }
+}
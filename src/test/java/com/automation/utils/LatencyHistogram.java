@@ -0,0 +1,123 @@
+package com.automation.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Histogram - Fixed-size, lock-free histogram in the style of HdrHistogram
+ * Values are microseconds in log-linear buckets: exact below 16 µs, then 8 sub-buckets per
+ * power of two (at most 12.5% relative error). Recording is one array increment, so it is
+ * cheap enough for every WebDriver command on every thread. Power-of-two bucket edges line up
+ * with the OpenMetrics "le" boundaries, so exported buckets are exact.
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR = 16;
+    private static final int SUB_BUCKETS = 8;
+    private static final int MAX_MAGNITUDE = 40;   // 2^40 µs, about 12 days
+    private static final int SIZE = LINEAR + (MAX_MAGNITUDE - 3) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SIZE);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record one duration
+     * @param nanos duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(index(micros));
+        count.increment();
+        sumMicros.add(micros);
+        if (micros > maxMicros.get()) {
+            maxMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return sum of recorded values in milliseconds
+     */
+    public double getTotalMillis() {
+        return sumMicros.sum() / 1000.0;
+    }
+
+    /**
+     * @return largest recorded value in milliseconds
+     */
+    public double getMaxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Value below which the given share of recorded values fall (upper edge of its bucket)
+     * @param percentile 0-100
+     * @return milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < SIZE; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperEdge(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Number of recorded values below a power-of-two boundary
+     * @param powerOfTwoMicros boundary in microseconds, a power of two
+     * @return cumulative count
+     */
+    public long countBelow(long powerOfTwoMicros) {
+        int end = index(powerOfTwoMicros);
+        long below = 0;
+        for (int i = 0; i < end && i < SIZE; i++) {
+            below += counts.get(i);
+        }
+        return below;
+    }
+
+    /**
+     * @return largest recorded value in microseconds
+     */
+    long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    private static int index(long micros) {
+        if (micros < LINEAR) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros);
+        if (magnitude >= MAX_MAGNITUDE) {
+            return SIZE - 1;
+        }
+        int sub = (int) (micros >>> (magnitude - 3)) & (SUB_BUCKETS - 1);
+        return LINEAR + (magnitude - 4) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperEdge(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int magnitude = (index - LINEAR) / SUB_BUCKETS + 4;
+        int sub = (index - LINEAR) % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1L) << (magnitude - 3)) - 1;
+    }
+}
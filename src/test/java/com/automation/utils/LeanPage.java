@@ -0,0 +1,42 @@
+package com.automation.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lean Page - Opt a test (method or class) into the lean page profile
+ * Requests are aborted by resource type and third-party origin through CDP interception,
+ * for scenarios that only check text and clicks
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface LeanPage {
+
+    /**
+     * How image requests are handled
+     * BLOCK aborts them, PLACEHOLDER answers with a 1x1 image so img elements still render
+     */
+    enum ImageMode { LOAD, BLOCK, PLACEHOLDER }
+
+    /**
+     * Resource types to abort (images are controlled by images())
+     */
+    ResourceType[] block() default {ResourceType.FONT, ResourceType.MEDIA};
+
+    /**
+     * Image handling for this test
+     */
+    ImageMode images() default ImageMode.BLOCK;
+
+    /**
+     * Abort third-party requests, except documents and stylesheets
+     */
+    boolean blockThirdParty() default true;
+
+    /**
+     * Third-party hosts that are still allowed, e.g. a CDN the page cannot work without
+     */
+    String[] allowHosts() default {};
+}
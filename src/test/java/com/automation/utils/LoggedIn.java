@@ -0,0 +1,28 @@
+package com.automation.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Logged In - Start a test (method or class) already logged in as the configured account
+ * The session comes from SessionCache: auth cookies are injected before the first
+ * navigation instead of logging in through the UI in every test
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface LoggedIn {
+
+    /**
+     * The test logs in through the login page itself, because login is part of what it checks
+     * The account is still leased from the AccountPool; no cached session is injected
+     */
+    boolean uiLogin() default false;
+
+    /**
+     * The test changes server-side account state (e.g. checks out the cart), so it needs an
+     * account no parallel test uses - it is skipped unless accountPool.enabled=true
+     */
+    boolean ownAccount() default false;
+}
@@ -0,0 +1,120 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Navigation Stats - Page loads per test
+ * On Chrome/Edge every main-frame navigation is counted from CDP Page.frameNavigated, whether it
+ * came from Navigator, a click or a form post; other browsers only count Navigator's direct loads.
+ */
+public class NavigationStats {
+
+    private static final Map<WebDriver, Counter> counters = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, int[]> perTest = new ConcurrentSkipListMap<>();
+
+    private NavigationStats() {
+    }
+
+    /**
+     * Start counting for a test - call before its first navigation
+     * @param driver WebDriver instance
+     */
+    public static void begin(WebDriver driver) {
+        counter(driver).reset();
+    }
+
+    /**
+     * Record a Navigator.open() load
+     * @param driver WebDriver instance
+     */
+    static void recordDirect(WebDriver driver) {
+        counter(driver).direct.incrementAndGet();
+    }
+
+    /**
+     * Store the test's counts
+     * @param driver WebDriver instance
+     * @param testName test name for the report
+     */
+    public static void end(WebDriver driver, String testName) {
+        Counter counter = counters.get(driver);
+        if (counter != null) {
+            int direct = counter.direct.get();
+            // Without CDP only direct loads are known
+            int total = counter.cdp ? counter.navigations.get() : direct;
+            String key = testName;
+            for (int run = 2; perTest.putIfAbsent(key, new int[]{total, direct}) != null; run++) {
+                key = testName + " #" + run;
+            }
+        }
+    }
+
+    /**
+     * Print page loads per test
+     */
+    public static void report() {
+        if (perTest.isEmpty()) {
+            return;
+        }
+        System.out.println("=== Page Loads per Test ===");
+        int total = 0;
+        for (Map.Entry<String, int[]> test : perTest.entrySet()) {
+            System.out.printf("%-40s %3d loads (%d direct)%n", test.getKey(), test.getValue()[0], test.getValue()[1]);
+            total += test.getValue()[0];
+        }
+        System.out.println("Total: " + total + " page loads in " + perTest.size() + " tests");
+    }
+
+    private static Counter counter(WebDriver driver) {
+        return counters.computeIfAbsent(driver, Counter::new);
+    }
+
+    /**
+     * Counter - Navigations of one browser session since the current test began
+     */
+    private static class Counter {
+
+        final AtomicInteger navigations = new AtomicInteger();
+        final AtomicInteger direct = new AtomicInteger();
+        final boolean cdp;
+
+        Counter(WebDriver driver) {
+            cdp = driver instanceof HasDevTools && listen(((HasDevTools) driver).getDevTools());
+        }
+
+        void reset() {
+            navigations.set(0);
+            direct.set(0);
+        }
+
+        private boolean listen(DevTools devTools) {
+            try {
+                devTools.createSessionIfThereIsNotOne();
+                devTools.send(new Command<Void>("Page.enable", new HashMap<>()));
+                devTools.addListener(new Event<Map<String, Object>>("Page.frameNavigated", input -> input.read(Json.MAP_TYPE)),
+                        event -> {
+                            Object frame = event.get("frame");
+                            if (frame instanceof Map && ((Map<?, ?>) frame).get("parentId") == null) {
+                                navigations.incrementAndGet();
+                            }
+                        });
+                return true;
+            } catch (Exception e) {
+                System.out.println("Navigation events unavailable: " + e.getMessage());
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Navigation Stats Listener - Prints the page loads of every test when the suite finishes
+ */
+public class NavigationStatsListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        NavigationStats.report();
+    }
+}
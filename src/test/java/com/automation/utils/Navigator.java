@@ -0,0 +1,109 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Navigator - Opens a page object's @Route directly with one page load
+ * Tests start on the page they exercise instead of loading the landing page
+ * and clicking through to it.
+ */
+public final class Navigator {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\d+\\}");
+
+    private Navigator() {
+    }
+
+    /**
+     * Load a page object's route and wait for the page to be ready
+     * @param driver WebDriver instance
+     * @param page page object class with @Route and a (WebDriver) constructor
+     * @param params values for the route's {0}, {1}... placeholders
+     * @return page object
+     */
+    public static <T> T open(WebDriver driver, Class<T> page, Object... params) {
+        String url = url(page, params);
+        long start = System.currentTimeMillis();
+        driver.get(url);
+        BrowserProfileStats.recordPageLoad(System.currentTimeMillis() - start);
+        NavigationStats.recordDirect(driver);
+        System.out.println("Navigating to: " + url);
+        try {
+            return page.getConstructor(WebDriver.class).newInstance(driver);
+        } catch (InvocationTargetException e) {
+            // Readiness timeouts and other page errors surface as they would from "new Page(driver)"
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Error opening " + page.getSimpleName() + ": " + e.getCause(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(page.getSimpleName() + " needs a public (WebDriver) constructor", e);
+        }
+    }
+
+    /**
+     * Absolute URL of a page object's route
+     * @param page page object class with @Route
+     * @param params values for the route's placeholders
+     * @return URL under baseUrl
+     */
+    public static String url(Class<?> page, Object... params) {
+        Route route = page.getAnnotation(Route.class);
+        if (route == null) {
+            throw new RuntimeException(page.getSimpleName() + " has no @Route");
+        }
+        String path = route.value();
+        for (int i = 0; i < params.length; i++) {
+            path = path.replace("{" + i + "}", String.valueOf(params[i]));
+        }
+        if (path.contains("{")) {
+            throw new RuntimeException("Missing parameter for route " + route.value() + " of " + page.getSimpleName());
+        }
+        String baseUrl = ConfigReader.getInstance().getProperty("baseUrl").replaceAll("/+$", "");
+        try {
+            // Quotes spaces and other characters a path cannot hold ("H&M" stays as the site links it)
+            return baseUrl + new URI(null, null, path, null).getRawPath();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException("Invalid route " + path, e);
+        }
+    }
+
+    /**
+     * Check if a URL is on a page object's route - any value fills a placeholder,
+     * query and fragment are ignored
+     * @param page page object class
+     * @param url e.g. driver.getCurrentUrl()
+     * @return true if the path matches the route, or the page has no @Route
+     */
+    public static boolean isOnRoute(Class<?> page, String url) {
+        Route route = page.getAnnotation(Route.class);
+        if (route == null) {
+            return true;
+        }
+        String path;
+        try {
+            path = new URI(url).getPath();
+        } catch (URISyntaxException e) {
+            return false;
+        }
+        if (path == null) {
+            return false;
+        }
+        String basePath = URI.create(ConfigReader.getInstance().getProperty("baseUrl")).getPath();
+        StringBuilder regex = new StringBuilder(Pattern.quote(basePath == null ? "" : basePath.replaceAll("/+$", "")));
+        Matcher placeholder = PLACEHOLDER.matcher(route.value());
+        int end = 0;
+        while (placeholder.find()) {
+            regex.append(Pattern.quote(route.value().substring(end, placeholder.start()))).append("[^/]+");
+            end = placeholder.end();
+        }
+        regex.append(Pattern.quote(route.value().substring(end))).append("/?");
+        return path.matches(regex.toString());
+    }
+}
@@ -0,0 +1,425 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Network Archive - Records every response seen through CDP Fetch into an indexed
+ * on-disk archive, and replays the suite from it with no network access
+ *
+ * Switched with network.mode in config.properties: live | record | replay.
+ * Entries are keyed on method, normalized URL and a hash of the normalized body, and
+ * grouped per test, so stateful pages (e.g. the cart) replay the responses that test saw.
+ * Each record run starts a fresh archive; failed responses are not archived.
+ * The index is loaded into a HashMap once, so a replay lookup is a single map get.
+ * Layout: index.tsv (one line per response) and bodies/ (content addressed by SHA-1).
+ * Only browser traffic is archived. Helpers that send HTTP outside the browser (CartSeeder,
+ * SessionHttp, AccountPool) refuse to run in replay mode, and SessionCache is off in record
+ * and replay mode so every login goes through the login page and into the archive.
+ */
+public class NetworkArchive {
+
+    private static final String DEFAULT_PATH = "network-archive";
+    private static final Set<String> DROPPED_HEADERS = new HashSet<>(Arrays.asList(
+            "content-encoding", "content-length", "transfer-encoding"));
+
+    private static final String NO_TEST = "-";
+    // Static files are the same for every test, so replay may borrow them from another test
+    private static final Set<ResourceType> SHARED_TYPES = EnumSet.of(ResourceType.STYLESHEET, ResourceType.SCRIPT,
+            ResourceType.IMAGE, ResourceType.FONT, ResourceType.MEDIA);
+
+    private static volatile NetworkArchive instance;
+    private static final Map<WebDriver, Session> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, Integer> testRuns = new HashMap<>();
+
+    private final Path root;
+    private final Path bodies;
+    private final Set<String> ignoredParams;
+    // test -> key -> responses in recording order
+    private final Map<String, Map<String, List<Entry>>> index = new ConcurrentHashMap<>();
+    // key -> first response recorded by any test, for SHARED_TYPES
+    private final Map<String, Entry> shared = new ConcurrentHashMap<>();
+    private final Json json = new Json();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private NetworkArchive() {
+        ConfigReader config = ConfigReader.getInstance();
+        this.root = Paths.get(config.getProperty("network.archivePath", DEFAULT_PATH));
+        this.bodies = root.resolve("bodies");
+        this.ignoredParams = new HashSet<>(Arrays.asList(
+                config.getProperty("network.ignoredParams", "_,cb,csrfmiddlewaretoken").split(",")));
+    }
+
+    /**
+     * Get singleton instance, loading the index on first use
+     * @return NetworkArchive instance
+     */
+    public static NetworkArchive getInstance() {
+        if (instance == null) {
+            synchronized (NetworkArchive.class) {
+                if (instance == null) {
+                    NetworkArchive archive = new NetworkArchive();
+                    if (mode().equals("record")) {
+                        archive.clear();
+                    } else {
+                        archive.loadIndex();
+                    }
+                    instance = archive;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Network mode from config.properties
+     * @return live, record or replay
+     */
+    public static String mode() {
+        return ConfigReader.getInstance().getProperty("network.mode", "live").toLowerCase();
+    }
+
+    /**
+     * Refuse HTTP requests sent outside the browser while replaying - they would reach
+     * the live site, and the archive cannot serve them
+     * @param helper what is about to send the requests, for the error message
+     */
+    public static void requireLive(String helper) {
+        if (mode().equals("replay")) {
+            throw new RuntimeException(helper + " sends HTTP requests outside the browser, which network.mode=replay"
+                    + " cannot serve from the archive");
+        }
+    }
+
+    /**
+     * Install the recorder or replayer for the configured mode on a session's interceptor
+     * @param interceptor session's request interceptor
+     * @param driver WebDriver instance
+     */
+    static void attach(RequestInterceptor interceptor, WebDriver driver) {
+        String mode = mode();
+        if (mode.equals("record")) {
+            NetworkArchive archive = getInstance();
+            Session session = new Session();
+            interceptor.addResponseHandler(request -> archive.record(session, request));
+            sessions.put(driver, session);
+        } else if (mode.equals("replay")) {
+            NetworkArchive archive = getInstance();
+            Session session = new Session();
+            // Requests the handler chain fails on are failed, never continued to the network
+            interceptor.setHermetic(true);
+            interceptor.addHandler(request -> archive.replay(session, request));
+            sessions.put(driver, session);
+        } else if (!mode.equals("live")) {
+            throw new RuntimeException("Unsupported network.mode: " + mode);
+        }
+    }
+
+    /**
+     * Record or replay the session's traffic as part of a test
+     * Repeated runs of one test (data providers) get their own sequences: "Test.method #2"
+     * @param driver WebDriver instance
+     * @param testName e.g. ProductOrderTest.testProductOrderCompleteFlow
+     */
+    public static void beginTest(WebDriver driver, String testName) {
+        Session session = sessions.get(driver);
+        if (session == null) {
+            return;
+        }
+        int run;
+        synchronized (testRuns) {
+            run = testRuns.merge(testName, 1, Integer::sum);
+        }
+        session.start(run > 1 ? testName + " #" + run : testName);
+    }
+
+    /**
+     * Detach the session from its test and start replay sequences from the beginning,
+     * e.g. before a pooled browser runs its next test
+     * @param driver WebDriver instance
+     */
+    public static void resetSession(WebDriver driver) {
+        Session session = sessions.get(driver);
+        if (session != null) {
+            session.start(NO_TEST);
+        }
+    }
+
+    /**
+     * Print recorded / replayed counts
+     */
+    public void printSummary() {
+        System.out.println("=== Network Archive (" + mode() + ") ===");
+        int entries = 0;
+        for (Map<String, List<Entry>> keys : index.values()) {
+            entries += keys.values().stream().mapToInt(List::size).sum();
+        }
+        System.out.println("Tests: " + index.size() + ", entries: " + entries + ", recorded this run: " + recorded.sum());
+        System.out.println("Replay hits: " + hits.sum() + ", misses: " + misses.sum());
+    }
+
+    // ---------------------------------------------------------------------
+    // Record
+    // ---------------------------------------------------------------------
+
+    /**
+     * Response stage handler: store the response under the session's test, then let it through unchanged
+     * Failed responses (network errors, no status) are passed on without archiving
+     */
+    private boolean record(Session session, RequestInterceptor.PausedRequest request) {
+        if (request.getResponseStatus() == 0 || request.getResponseErrorReason() != null) {
+            return false;
+        }
+        String test = session.test;
+        byte[] body = request.getResponseBody();
+        String bodyHash = sha1(body);
+        List<Map<String, Object>> headers = new ArrayList<>();
+        for (Map<String, Object> header : request.getResponseHeaders()) {
+            if (!DROPPED_HEADERS.contains(String.valueOf(header.get("name")).toLowerCase())) {
+                headers.add(header);
+            }
+        }
+        Entry entry = new Entry(request.getResponseStatus(), headers, bodyHash);
+        String key = key(request.getMethod(), request.getUrl(), request.getPostData());
+
+        try {
+            Path bodyFile = bodies.resolve(bodyHash);
+            if (!Files.exists(bodyFile)) {
+                Files.createDirectories(bodies);
+                Files.write(bodyFile, body);
+            }
+            append(test, key, entry);
+            add(test, key, entry);
+            recorded.increment();
+        } catch (IOException e) {
+            System.out.println("Could not record " + request.getUrl() + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    private synchronized void append(String test, String key, Entry entry) throws IOException {
+        Files.createDirectories(root);
+        StringBuilder headers = new StringBuilder();
+        json.newOutput(headers).setPrettyPrint(false).write(entry.headers);
+        String line = test + "\t" + key + "\t" + entry.status + "\t" + entry.bodyHash + "\t" + headers + System.lineSeparator();
+        Files.write(root.resolve("index.tsv"), line.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    // ---------------------------------------------------------------------
+    // Replay
+    // ---------------------------------------------------------------------
+
+    /**
+     * Request stage handler: answer from the responses the session's test recorded
+     * Responses recorded several times under one key (e.g. the cart before and after
+     * adding a product) are served in recording order, then the last one repeats.
+     * Static files the test did not record are served from any test.
+     */
+    private boolean replay(Session session, RequestInterceptor.PausedRequest request) {
+        String key = key(request.getMethod(), request.getUrl(), request.getPostData());
+        List<Entry> entries = index.getOrDefault(session.test, Collections.emptyMap()).get(key);
+        Entry entry;
+        if (entries != null && !entries.isEmpty()) {
+            int position = session.cursors.merge(key, 1, Integer::sum) - 1;
+            entry = entries.get(Math.min(position, entries.size() - 1));
+        } else {
+            entry = SHARED_TYPES.contains(request.getResourceType()) ? shared.get(key) : null;
+        }
+        if (entry == null) {
+            // Hermetic: never fall through to the network
+            misses.increment();
+            request.fulfill(404, Map.of("Content-Type", "text/plain"),
+                    ("Not in network archive for " + session.test + ": " + key).getBytes(StandardCharsets.UTF_8));
+            return true;
+        }
+        try {
+            request.fulfill(entry.status, entry.headers, entry.body(bodies));
+            hits.increment();
+        } catch (IOException e) {
+            misses.increment();
+            request.fulfill(404, Map.of("Content-Type", "text/plain"),
+                    ("Archived body missing: " + entry.bodyHash).getBytes(StandardCharsets.UTF_8));
+        }
+        return true;
+    }
+
+    private void add(String test, String key, Entry entry) {
+        index.computeIfAbsent(test, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(entry);
+        shared.putIfAbsent(key, entry);
+    }
+
+    /**
+     * Start a record run from an empty archive - entries of earlier runs would
+     * otherwise be replayed after this run's
+     */
+    private void clear() {
+        try {
+            Files.deleteIfExists(root.resolve("index.tsv"));
+            if (Files.isDirectory(bodies)) {
+                try (Stream<Path> files = Files.list(bodies)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot clear network archive " + root, e);
+        }
+        System.out.println("Recording a new network archive in " + root);
+    }
+
+    private void loadIndex() {
+        Path indexFile = root.resolve("index.tsv");
+        if (!Files.exists(indexFile)) {
+            if (mode().equals("replay")) {
+                throw new RuntimeException("No network archive at " + indexFile + " - run once with network.mode=record");
+            }
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // test, key, status, body hash, headers
+                String[] fields = line.split("\t", 5);
+                if (fields.length < 5) {
+                    continue;
+                }
+                List<Map<String, Object>> headers = json.toType(fields[4], Json.LIST_OF_MAPS_TYPE);
+                add(fields[0], fields[1], new Entry(Integer.parseInt(fields[2]), headers, fields[3]));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load network archive " + indexFile, e);
+        }
+        System.out.println("Network archive loaded: " + shared.size() + " keys of " + index.size() + " tests from " + indexFile);
+    }
+
+    // ---------------------------------------------------------------------
+    // Keys
+    // ---------------------------------------------------------------------
+
+    /**
+     * METHOD normalized-url body-hash
+     */
+    String key(String method, String url, String body) {
+        return method + " " + normalizeUrl(url) + " " + (body == null || body.isEmpty() ? "-" : sha1(
+                normalizeBody(body).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Drop the fragment and volatile query parameters, sort the rest
+     */
+    private String normalizeUrl(String url) {
+        int fragment = url.indexOf('#');
+        String withoutFragment = fragment >= 0 ? url.substring(0, fragment) : url;
+        int queryStart = withoutFragment.indexOf('?');
+        if (queryStart < 0) {
+            return withoutFragment;
+        }
+        String query = normalizeForm(withoutFragment.substring(queryStart + 1));
+        String base = withoutFragment.substring(0, queryStart);
+        return query.isEmpty() ? base : base + "?" + query;
+    }
+
+    /**
+     * Form bodies are normalized like query strings; other bodies are only trimmed
+     */
+    private String normalizeBody(String body) {
+        String trimmed = body.trim();
+        if (trimmed.startsWith("{") || trimmed.startsWith("[") || !trimmed.contains("=")) {
+            return trimmed;
+        }
+        return normalizeForm(trimmed);
+    }
+
+    private String normalizeForm(String form) {
+        List<String> params = new ArrayList<>();
+        for (String param : form.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            int equals = param.indexOf('=');
+            String name = URLDecoder.decode(equals >= 0 ? param.substring(0, equals) : param, StandardCharsets.UTF_8);
+            if (!ignoredParams.contains(name)) {
+                params.add(param);
+            }
+        }
+        Collections.sort(params);
+        return String.join("&", params);
+    }
+
+    private static String sha1(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(data);
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Session - Test a browser session currently records or replays for, and its replay positions
+     */
+    private static class Session {
+
+        private volatile String test = NO_TEST;
+        private final Map<String, Integer> cursors = new ConcurrentHashMap<>();
+
+        void start(String testName) {
+            cursors.clear();
+            test = testName;
+        }
+    }
+
+    /**
+     * Entry - One archived response
+     */
+    private static class Entry {
+
+        final int status;
+        final List<Map<String, Object>> headers;
+        final String bodyHash;
+
+        Entry(int status, List<Map<String, Object>> headers, String bodyHash) {
+            this.status = status;
+            this.headers = headers;
+            this.bodyHash = bodyHash;
+        }
+
+        byte[] body(Path bodies) throws IOException {
+            return Files.readAllBytes(bodies.resolve(bodyHash));
+        }
+    }
+}
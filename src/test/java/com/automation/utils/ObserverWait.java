@@ -0,0 +1,175 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Observer Wait - Event-driven element waits that run inside the page
+ * One executeAsyncScript installs a MutationObserver and resolves the moment the
+ * locator matches, instead of one chromedriver round trip per 500ms poll.
+ * Falls back to the equivalent ExpectedConditions wait when the locator type is not
+ * supported in the page (link text) or the script is cut off by a navigation; other
+ * driver errors (script errors, invalid locators) are thrown as they are.
+ * A budget longer than the session's script timeout is waited for in several in-page slices.
+ * Selected with wait.engine in config.properties: observer | polling
+ */
+public final class ObserverWait {
+
+    /**
+     * What the wait resolves on - mirrors the ExpectedConditions of the same name
+     */
+    public enum Mode {
+        PRESENT, VISIBLE, CLICKABLE, ABSENT
+    }
+
+    // A 100ms in-page re-check covers changes no mutation reports (stylesheets, layout)
+    private static final String SCRIPT = PageScripts.LOCATE + PageScripts.VISIBLE
+            + "var using = arguments[0], value = arguments[1], mode = arguments[2], budget = arguments[3];"
+            + "var done = arguments[arguments.length - 1];"
+            + "function match() {"
+            + "  var el = locate(using, value)[0];"
+            + "  if (mode === 'ABSENT') return (!el || !visible(el)) ? true : null;"
+            + "  if (!el) return null;"
+            + "  if (mode === 'PRESENT') return el;"
+            + "  if (!visible(el)) return null;"
+            + "  return (mode === 'CLICKABLE' && el.disabled) ? null : el;"
+            + "}"
+            + "var result = match();"
+            + "if (result) { done(result); return; }"
+            + "var finished = false, observer, poll, timer;"
+            + "function finish(value) {"
+            + "  if (finished) return;"
+            + "  finished = true; observer.disconnect(); clearInterval(poll); clearTimeout(timer); done(value);"
+            + "}"
+            + "function check() { var value = match(); if (value) finish(value); }"
+            + "observer = new MutationObserver(check);"
+            + "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true});"
+            + "poll = setInterval(check, 100);"
+            + "timer = setTimeout(function () { finish(mode === 'ABSENT' ? false : null); }, budget);";
+
+    // Time kept free below the script timeout for the round trip
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofMillis(500);
+    private static final Duration DEFAULT_SCRIPT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Map<WebDriver, Duration> scriptTimeouts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ObserverWait() {
+    }
+
+    /**
+     * Check if the observer engine is selected in config.properties
+     * @return true for wait.engine=observer (default)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getProperty("wait.engine", "observer").equalsIgnoreCase("observer");
+    }
+
+    /**
+     * Wait for a locator inside the page
+     * @param driver WebDriver instance
+     * @param locator element locator
+     * @param mode condition to wait for
+     * @param budget maximum time to wait
+     * @return matched WebElement, or Boolean.TRUE for ABSENT
+     * @throws TimeoutException if the condition is not met within the budget
+     */
+    public static Object until(WebDriver driver, By locator, Mode mode, Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        List<String> args = PageScripts.args(locator);
+        if (args == null) {
+            return poll(driver, locator, mode, budget);
+        }
+        long sliceMillis = Math.max(100, scriptTimeout(driver).minus(SCRIPT_TIMEOUT_MARGIN).toMillis());
+        do {
+            long remaining = Math.max(0, (deadline - System.nanoTime()) / 1_000_000);
+            Object result;
+            try {
+                result = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT,
+                        args.get(0), args.get(1), mode.name(), Math.min(remaining, sliceMillis));
+            } catch (TimeoutException e) {
+                throw new TimeoutException("Timed out waiting for " + mode + " " + locator, e);
+            } catch (ScriptTimeoutException e) {
+                // The driver gave up before the in-page timer - finish the budget with polling
+                return poll(driver, locator, mode, Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            } catch (WebDriverException e) {
+                if (!isNavigation(e)) {
+                    throw e;
+                }
+                // The page navigated away mid-wait - finish on the new page with polling
+                return poll(driver, locator, mode, Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            }
+            if (result != null && !Boolean.FALSE.equals(result)) {
+                return result;
+            }
+        } while (System.nanoTime() < deadline);
+        throw new TimeoutException("Timed out after " + budget.toMillis() + " ms waiting for "
+                + mode.name().toLowerCase() + " " + locator);
+    }
+
+    /**
+     * Errors that mean the document the script ran in is gone, not that the wait is wrong
+     */
+    private static boolean isNavigation(WebDriverException e) {
+        if (e instanceof NoSuchWindowException || e instanceof StaleElementReferenceException) {
+            return true;
+        }
+        String message = String.valueOf(e.getMessage()).toLowerCase();
+        return message.contains("document unloaded") || message.contains("execution context was destroyed")
+                || message.contains("cannot find context") || message.contains("no such execution context")
+                || message.contains("frame detached") || message.contains("inspected target navigated");
+    }
+
+    /**
+     * Session's script timeout, read once per session
+     */
+    private static Duration scriptTimeout(WebDriver driver) {
+        return scriptTimeouts.computeIfAbsent(driver, webDriver -> {
+            try {
+                Duration timeout = webDriver.manage().timeouts().getScriptTimeout();
+                return timeout != null ? timeout : DEFAULT_SCRIPT_TIMEOUT;
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                return DEFAULT_SCRIPT_TIMEOUT;
+            }
+        });
+    }
+
+    /**
+     * Classic WebDriverWait polling with the matching ExpectedCondition
+     */
+    public static Object poll(WebDriver driver, By locator, Mode mode, Duration budget) {
+        return new WebDriverWait(driver, budget).until(condition(locator, mode));
+    }
+
+    /**
+     * ExpectedCondition equivalent of a mode
+     * @param locator element locator
+     * @param mode condition to wait for
+     * @return ExpectedCondition
+     */
+    public static ExpectedCondition<?> condition(By locator, Mode mode) {
+        switch (mode) {
+            case PRESENT:
+                return ExpectedConditions.presenceOfElementLocated(locator);
+            case VISIBLE:
+                return ExpectedConditions.visibilityOfElementLocated(locator);
+            case CLICKABLE:
+                return ExpectedConditions.elementToBeClickable(locator);
+            default:
+                return ExpectedConditions.invisibilityOfElementLocated(locator);
+        }
+    }
+}
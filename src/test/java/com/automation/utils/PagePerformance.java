@@ -0,0 +1,405 @@
+package com.automation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Page Performance - Navigation Timing, paint timings and Web Vitals of every page load,
+ * attributed to the page object created for it
+ * BasePage.waitUntilReady() captures each document once, for the first page object that
+ * becomes ready on it and whose @Route matches the document's URL:
+ * - Navigation Timing: ttfbMillis, domContentLoadedMillis, loadMillis, transferKb
+ * - paint timings: fpMillis, fcpMillis
+ * - Web Vitals through buffered PerformanceObservers: lcpMillis and cls (so far)
+ * - CDP Performance.getMetrics on Chrome/Edge: nodes, jsHeapMb, and scriptMillis,
+ *   layoutMillis, taskMillis since the previous capture on that browser
+ * Captures at readiness are logged against the page's @PerfBudget. Under pageLoadStrategy=eager
+ * the load event and LCP may still be pending then, so budget assertions belong in dedicated
+ * performance tests, which call measure() to re-capture after the load event.
+ */
+public final class PagePerformance {
+
+    private static final String CAPTURE_SCRIPT =
+            "var page = arguments[0], force = arguments[1], done = arguments[arguments.length - 1];"
+            + "if (window.__pagePerformance && !force) { done(null); return; }"
+            + "window.__pagePerformance = page;"
+            + "var result = {};"
+            + "function put(name, value) { if (value > 0) { result[name] = value; } }"
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "if (nav) {"
+            + "  put('ttfbMillis', nav.responseStart);"
+            + "  put('domContentLoadedMillis', nav.domContentLoadedEventEnd);"
+            + "  put('loadMillis', nav.loadEventEnd);"
+            + "  put('transferKb', nav.transferSize / 1024);"
+            + "}"
+            + "performance.getEntriesByType('paint').forEach(function (e) {"
+            + "  put(e.name === 'first-paint' ? 'fpMillis' : 'fcpMillis', e.startTime);"
+            + "});"
+            + "var lcp = 0, cls = 0, observers = {};"
+            + "function take(entries) { entries.forEach(function (e) {"
+            + "  if (e.entryType === 'largest-contentful-paint') { lcp = Math.max(lcp, e.startTime); }"
+            + "  else if (!e.hadRecentInput) { cls += e.value; }"
+            + "}); }"
+            + "['largest-contentful-paint', 'layout-shift'].forEach(function (type) {"
+            + "  try {"
+            + "    var observer = new PerformanceObserver(function (list) { take(list.getEntries()); });"
+            + "    observer.observe({type: type, buffered: true});"
+            + "    observers[type] = observer;"
+            + "  } catch (e) { }"
+            + "});"
+            // Buffered entries arrive in a later task - collect what is queued, then report
+            + "setTimeout(function () {"
+            + "  Object.keys(observers).forEach(function (type) {"
+            + "    take(observers[type].takeRecords()); observers[type].disconnect();"
+            + "  });"
+            + "  put('lcpMillis', lcp);"
+            + "  if (observers['layout-shift']) { result.cls = cls; }"
+            + "  done(result);"
+            + "}, 0);";
+
+    private static final Map<String, List<Sample>> samples = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> breaches = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Sample>> latest = ThreadLocal.withInitial(HashMap::new);
+    private static final Map<WebDriver, double[]> cdpDurations = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PagePerformance() {
+    }
+
+    /**
+     * Check if page performance capture is enabled in config.properties
+     * @return true if page objects capture timings when they become ready
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getInstance().getProperty("perf.enabled", "true"));
+    }
+
+    /**
+     * Forget the captures of the previous test on the calling thread
+     */
+    public static void begin() {
+        latest.get().clear();
+    }
+
+    /**
+     * Capture the current document's timings for a page object, once per document
+     * @param driver WebDriver instance
+     * @param page page object class the document is attributed to
+     */
+    public static void capture(WebDriver driver, Class<?> page) {
+        capture(driver, page, false);
+    }
+
+    /**
+     * Wait for the load event, then capture the current document again for a page object
+     * Replaces the capture taken when the page became ready, so loadMillis and lcpMillis are complete
+     * @param driver WebDriver instance
+     * @param page page object class the document is attributed to
+     */
+    public static void measure(WebDriver driver, Class<?> page) {
+        if (!isEnabled()) {
+            return;
+        }
+        int timeout = ConfigReader.getInstance().getIntProperty("pageReadyTimeout", 15);
+        try {
+            new WebDriverWait(driver, Duration.ofSeconds(timeout)).until(webDriver -> "complete".equals(
+                    ((JavascriptExecutor) webDriver).executeScript("return document.readyState")));
+        } catch (TimeoutException e) {
+            System.out.println(page.getSimpleName() + " load event not reached after " + timeout + "s");
+        }
+        capture(driver, page, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void capture(WebDriver driver, Class<?> page, boolean replace) {
+        if (!isEnabled() || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        String url;
+        try {
+            // Checked before the script marks the document, so another page object can still claim it
+            url = driver.getCurrentUrl();
+            if (!Navigator.isOnRoute(page, url)) {
+                System.out.println("Page performance not captured for " + page.getSimpleName()
+                        + ": the document is " + url + ", not its @Route");
+                return;
+            }
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(CAPTURE_SCRIPT, page.getSimpleName(), replace);
+            if (!(result instanceof Map)) {
+                return;     // Already captured for this document
+            }
+            ((Map<String, Object>) result).forEach((name, value) -> metrics.put(name, ((Number) value).doubleValue()));
+            cdpMetrics(driver, metrics);
+        } catch (WebDriverException e) {
+            System.out.println("Page performance unavailable for " + page.getSimpleName() + ": " + e.getMessage());
+            return;
+        }
+        Sample previous = latest.get().get(page);
+        if (replace && previous != null && previous.url.equals(url)) {
+            // Same page load - the CDP work since the previous capture belongs to it as well
+            for (String key : new String[]{"scriptMillis", "layoutMillis", "taskMillis"}) {
+                if (previous.metrics.containsKey(key) && metrics.containsKey(key)) {
+                    metrics.put(key, metrics.get(key) + previous.metrics.get(key));
+                }
+            }
+            samples.getOrDefault(previous.page, new ArrayList<>()).remove(previous);
+            if (!overBudget(page, previous).isEmpty()) {
+                breaches.merge(previous.page, -1, Integer::sum);
+            }
+        }
+        Sample sample = new Sample(page.getSimpleName(), url, metrics);
+        latest.get().put(page, sample);
+        samples.computeIfAbsent(sample.page, k -> Collections.synchronizedList(new ArrayList<>())).add(sample);
+
+        List<String> over = overBudget(page, sample);
+        if (!over.isEmpty()) {
+            breaches.merge(sample.page, 1, Integer::sum);
+            System.out.println(sample.page + " over performance budget: " + String.join(", ", over));
+        }
+    }
+
+    /**
+     * Last capture of a page object in the current test
+     * @param page page object class
+     * @return sample, or null if the page was not captured
+     */
+    public static Sample last(Class<?> page) {
+        return latest.get().get(page);
+    }
+
+    /**
+     * Budget breaches of the last capture of a page object in the current test
+     * @param page page object class
+     * @return e.g. "lcpMillis 4210 > 4000", empty if within budget or not captured
+     */
+    public static List<String> budgetBreaches(Class<?> page) {
+        Sample sample = last(page);
+        return sample == null ? new ArrayList<>() : overBudget(page, sample);
+    }
+
+    /**
+     * Assert the last capture of a page object in the current test against its @PerfBudget
+     * Metrics the browser did not report (e.g. CDP metrics on Firefox) are not checked.
+     * @param page page object class
+     */
+    public static void assertWithinBudget(Class<?> page) {
+        if (!isEnabled()) {
+            System.out.println("Performance budget of " + page.getSimpleName() + " not checked: perf.enabled=false");
+            return;
+        }
+        Sample sample = last(page);
+        if (sample == null) {
+            throw new AssertionError("No performance capture of " + page.getSimpleName() + " in this test");
+        }
+        List<String> over = overBudget(page, sample);
+        if (!over.isEmpty()) {
+            throw new AssertionError(page.getSimpleName() + " over performance budget: " + String.join(", ", over)
+                    + " (" + sample.url + ")");
+        }
+        System.out.println(page.getSimpleName() + " within performance budget");
+    }
+
+    /**
+     * Budget of a page object - @PerfBudget values, overridden by perf.budget.<PageClass>.<metric>
+     * @param page page object class
+     * @return metric name to limit, only metrics with a limit
+     */
+    public static Map<String, Double> budget(Class<?> page) {
+        PerfBudget annotation = page.getAnnotation(PerfBudget.class);
+        Map<String, Double> limits = new LinkedHashMap<>();
+        ConfigReader config = ConfigReader.getInstance();
+        for (Method metric : PerfBudget.class.getDeclaredMethods()) {
+            double limit = -1;
+            try {
+                if (annotation != null) {
+                    limit = ((Number) metric.invoke(annotation)).doubleValue();
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Error reading @PerfBudget of " + page.getSimpleName(), e);
+            }
+            String override = config.getProperty("perf.budget." + page.getSimpleName() + "." + metric.getName(), null);
+            if (override != null && !override.isEmpty()) {
+                limit = Double.parseDouble(override.trim());
+            }
+            if (limit >= 0) {
+                limits.put(metric.getName(), limit);
+            }
+        }
+        return limits;
+    }
+
+    /**
+     * Print p50/p90 per page and metric, and write them to perf.summaryFile
+     */
+    public static void report() {
+        if (samples.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        System.out.println("=== Page Performance (p50 / p90) ===");
+        List<String> pages = new ArrayList<>(samples.keySet());
+        Collections.sort(pages);
+        for (String page : pages) {
+            List<Sample> list;
+            synchronized (samples.get(page)) {
+                list = new ArrayList<>(samples.get(page));
+            }
+            Map<String, List<Double>> values = new LinkedHashMap<>();
+            for (Sample sample : list) {
+                sample.metrics.forEach((name, value) -> values.computeIfAbsent(name, k -> new ArrayList<>()).add(value));
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("page", page);
+            row.put("captures", list.size());
+            row.put("overBudget", breaches.getOrDefault(page, 0));
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-20s %3d x, %d over budget:",
+                    page, list.size(), breaches.getOrDefault(page, 0)));
+            for (Map.Entry<String, List<Double>> metric : values.entrySet()) {
+                List<Double> sorted = metric.getValue();
+                Collections.sort(sorted);
+                double p50 = percentile(sorted, 50);
+                double p90 = percentile(sorted, 90);
+                Map<String, Object> stats = new LinkedHashMap<>();
+                stats.put("p50", round(p50));
+                stats.put("p90", round(p90));
+                stats.put("max", round(sorted.get(sorted.size() - 1)));
+                row.put(metric.getKey(), stats);
+                line.append(String.format(Locale.ROOT, " %s %s/%s", metric.getKey(), format(p50), format(p90)));
+            }
+            rows.add(row);
+            System.out.println(line);
+        }
+        Path file = Paths.get(ConfigReader.getInstance().getProperty("perf.summaryFile",
+                "target/metrics/page-performance.json"));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, new Json().toJson(rows).getBytes(StandardCharsets.UTF_8));
+            System.out.println("Summary: " + file);
+        } catch (IOException e) {
+            System.out.println("Error writing page performance summary: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Add CDP Performance.getMetrics (Chrome/Edge only)
+     */
+    @SuppressWarnings("unchecked")
+    private static void cdpMetrics(WebDriver driver, Map<String, Double> metrics) {
+        WebDriver browser = DriverManager.unwrap(driver);
+        if (!(browser instanceof ChromiumDriver)) {
+            return;
+        }
+        ChromiumDriver chromium = (ChromiumDriver) browser;
+        double[] previous = cdpDurations.get(driver);
+        if (previous == null) {
+            chromium.executeCdpCommand("Performance.enable", new HashMap<>());
+            previous = new double[3];
+        }
+        Map<String, Object> response = chromium.executeCdpCommand("Performance.getMetrics", new HashMap<>());
+        Map<String, Double> cdp = new HashMap<>();
+        for (Object item : (List<Object>) response.get("metrics")) {
+            Map<String, Object> metric = (Map<String, Object>) item;
+            cdp.put((String) metric.get("name"), ((Number) metric.get("value")).doubleValue());
+        }
+        metrics.put("nodes", cdp.getOrDefault("Nodes", 0.0));
+        metrics.put("jsHeapMb", cdp.getOrDefault("JSHeapUsedSize", 0.0) / 1024 / 1024);
+
+        // Durations are cumulative seconds per browser - report the work since the previous capture
+        String[] names = {"ScriptDuration", "LayoutDuration", "TaskDuration"};
+        String[] keys = {"scriptMillis", "layoutMillis", "taskMillis"};
+        double[] current = new double[names.length];
+        for (int i = 0; i < names.length; i++) {
+            current[i] = cdp.getOrDefault(names[i], 0.0);
+            double delta = current[i] >= previous[i] ? current[i] - previous[i] : current[i];
+            metrics.put(keys[i], delta * 1000);
+        }
+        cdpDurations.put(driver, current);
+    }
+
+    private static List<String> overBudget(Class<?> page, Sample sample) {
+        List<String> over = new ArrayList<>();
+        for (Map.Entry<String, Double> limit : budget(page).entrySet()) {
+            Double value = sample.metrics.get(limit.getKey());
+            if (value != null && value > limit.getValue()) {
+                over.add(limit.getKey() + " " + format(value) + " > " + format(limit.getValue()));
+            }
+        }
+        return over;
+    }
+
+    private static double percentile(List<Double> sorted, double percentile) {
+        int rank = (int) Math.ceil(sorted.size() * percentile / 100.0);
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static String format(double value) {
+        return value >= 10 ? String.format(Locale.ROOT, "%.0f", value) : String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    /**
+     * Sample - Metrics of one page load
+     */
+    public static final class Sample {
+
+        private final String page;
+        private final String url;
+        private final Map<String, Double> metrics;
+
+        Sample(String page, String url, Map<String, Double> metrics) {
+            this.page = page;
+            this.url = url;
+            this.metrics = Collections.unmodifiableMap(metrics);
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * @return metric name to value, e.g. lcpMillis, cls, nodes
+         */
+        public Map<String, Double> getMetrics() {
+            return metrics;
+        }
+
+        /**
+         * @param name metric name
+         * @return value, or null if the browser did not report it
+         */
+        public Double get(String name) {
+            return metrics.get(name);
+        }
+    }
+}
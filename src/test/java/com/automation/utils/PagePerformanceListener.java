@@ -0,0 +1,15 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Page Performance Listener - Prints timings and Web Vitals per page object when the suite finishes
+ */
+public class PagePerformanceListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        PagePerformance.report();
+    }
+}
@@ -0,0 +1,65 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Page Scripts - JavaScript shared by the in-page helpers (ObserverWait, DomBatch)
+ * so locators and visibility are evaluated the same way everywhere
+ */
+final class PageScripts {
+
+    private static final Set<String> SUPPORTED = new HashSet<>(Arrays.asList(
+            "css selector", "xpath", "id", "name", "class name", "tag name"));
+
+    /**
+     * locate(using, value) - every element matching a WebDriver locator, in document order
+     */
+    static final String LOCATE =
+            "function locate(using, value) {"
+            + "  if (using === 'xpath') {"
+            + "    var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    var nodes = [];"
+            + "    for (var i = 0; i < snapshot.snapshotLength; i++) nodes.push(snapshot.snapshotItem(i));"
+            + "    return nodes;"
+            + "  }"
+            + "  var selector = using === 'id' ? '#' + CSS.escape(value)"
+            + "    : using === 'name' ? '[name=\"' + CSS.escape(value) + '\"]'"
+            + "    : using === 'class name' ? '.' + CSS.escape(value) : value;"
+            + "  return Array.prototype.slice.call(document.querySelectorAll(selector));"
+            + "}";
+
+    /**
+     * visible(el) - close to WebDriver's isDisplayed: rendered, not hidden,
+     * not fully transparent and with a non-empty box
+     */
+    static final String VISIBLE =
+            "function visible(el) {"
+            + "  var style = getComputedStyle(el);"
+            + "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') return false;"
+            + "  var box = el.getBoundingClientRect();"
+            + "  return box.width > 0 && box.height > 0;"
+            + "}";
+
+    private PageScripts() {
+    }
+
+    /**
+     * Locator as script arguments
+     * @param locator WebDriver locator
+     * @return [using, value], or null when the locator cannot be evaluated in the page (link text)
+     */
+    static List<String> args(By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if (SUPPORTED.contains(parameters.using())) {
+                return Arrays.asList(parameters.using(), String.valueOf(parameters.value()));
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,475 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Page Snapshot - One CDP DOMSnapshot.captureSnapshot of the page (DOM plus computed
+ * visibility and layout boxes), indexed in the JVM so read-only checks such as
+ * isDisplayed() are answered locally instead of with one browser round trip each.
+ *
+ * The snapshot of a session is dropped on navigation (CDP Page/DOM events), on page
+ * object actions (click, type, scroll) and after snapshot.maxAgeMillis, and recaptured
+ * on the next check. Only positive answers are taken from it; a "not visible" answer
+ * still goes to the live wait, so a stale snapshot can never fail a check on its own.
+ * Enabled with snapshot.enabled=true (Chromium browsers).
+ */
+public class PageSnapshot {
+
+    private static final List<String> STYLES = Arrays.asList("display", "visibility", "opacity");
+
+    private static final Map<WebDriver, Holder> holders = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Document document;
+    // Elements with a layout object and no display:none / visibility:hidden / opacity:0 on the way up
+    private final Map<Node, Boolean> rendered = new IdentityHashMap<>();
+    // Rendered elements with a non-empty box
+    private final Map<Node, Boolean> boxed = new IdentityHashMap<>();
+    private final Map<String, Object> memo = new ConcurrentHashMap<>();
+    private final long capturedAt = System.currentTimeMillis();
+
+    private PageSnapshot(Document document) {
+        this.document = document;
+    }
+
+    /**
+     * Check if snapshot evaluation is enabled in config.properties
+     * @return true if snapshot.enabled=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getInstance().getProperty("snapshot.enabled", "false"));
+    }
+
+    /**
+     * Current snapshot of the driver's page, captured when missing or invalidated
+     * @param driver WebDriver instance
+     * @return snapshot, or null when the browser has no DevTools or the capture failed
+     */
+    public static PageSnapshot of(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return null;
+        }
+        Holder holder;
+        synchronized (holders) {
+            holder = holders.computeIfAbsent(driver, d -> new Holder(((HasDevTools) d).getDevTools()));
+        }
+        return holder.current();
+    }
+
+    /**
+     * Drop the driver's snapshot - call after anything that may change the page
+     * @param driver WebDriver instance
+     */
+    public static void invalidate(WebDriver driver) {
+        Holder holder = holders.get(driver);
+        if (holder != null) {
+            holder.snapshot = null;
+        }
+    }
+
+    /**
+     * Is the first element matching the locator displayed?
+     * @param locator element locator
+     * @return TRUE/FALSE, or null when the locator cannot be evaluated locally
+     */
+    public Boolean isVisible(By locator) {
+        Object result = memoized("visible " + locator, () -> {
+            Node first = first(locator);
+            return first != null && isVisible(first);
+        });
+        return result instanceof Boolean ? (Boolean) result : null;
+    }
+
+    /**
+     * Rendered text of the first element matching the locator (whitespace normalized)
+     * @param locator element locator
+     * @return text, empty when absent or hidden, null when the locator cannot be evaluated locally
+     */
+    public String getText(By locator) {
+        Object result = memoized("text " + locator, () -> {
+            Node first = first(locator);
+            if (first == null || !isVisible(first)) {
+                return "";
+            }
+            StringBuilder text = new StringBuilder();
+            appendRenderedText(first, text);
+            return text.toString().replaceAll("\\s+", " ").trim();
+        });
+        return result instanceof String ? (String) result : null;
+    }
+
+    /**
+     * First node matching the locator
+     * @throws Unsupported when the locator has no local equivalent
+     */
+    private Node first(By locator) {
+        String xpath = toXPath(locator);
+        if (xpath == null) {
+            throw new Unsupported();
+        }
+        try {
+            NodeList nodes = (NodeList) XPATH.get().evaluate(xpath, document, XPathConstants.NODESET);
+            return nodes.getLength() == 0 ? null : nodes.item(0);
+        } catch (XPathExpressionException e) {
+            throw new Unsupported();
+        }
+    }
+
+    private boolean isVisible(Node node) {
+        if (boxed.containsKey(node)) {
+            return true;
+        }
+        if (!rendered.containsKey(node)) {
+            return false;
+        }
+        // Zero-size containers count as displayed when a child is (WebDriver does the same)
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (isVisible(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void appendRenderedText(Node node, StringBuilder text) {
+        if (node.getNodeType() == Node.TEXT_NODE) {
+            text.append(node.getNodeValue()).append(' ');
+            return;
+        }
+        if (!rendered.containsKey(node)) {
+            return;
+        }
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            appendRenderedText(child, text);
+        }
+    }
+
+    private Object memoized(String key, Supplier<Object> compute) {
+        return memo.computeIfAbsent(key, k -> {
+            try {
+                return compute.get();
+            } catch (Unsupported e) {
+                return UNSUPPORTED;
+            }
+        });
+    }
+
+    // ---------------------------------------------------------------------
+    // Capture
+    // ---------------------------------------------------------------------
+
+    /**
+     * Holder - Snapshot slot of one session, cleared by CDP navigation events
+     */
+    private static class Holder {
+
+        private final DevTools devTools;
+        private volatile PageSnapshot snapshot;
+        private volatile boolean listening;
+
+        Holder(DevTools devTools) {
+            this.devTools = devTools;
+        }
+
+        synchronized PageSnapshot current() {
+            PageSnapshot current = snapshot;
+            long maxAge = ConfigReader.getInstance().getIntProperty("snapshot.maxAgeMillis", 2000);
+            if (current != null && System.currentTimeMillis() - current.capturedAt <= maxAge) {
+                return current;
+            }
+            try {
+                listen();
+                snapshot = capture(devTools);
+            } catch (Exception e) {
+                System.out.println("DOM snapshot unavailable: " + e.getMessage());
+                snapshot = null;
+            }
+            return snapshot;
+        }
+
+        private void listen() {
+            if (listening) {
+                return;
+            }
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<Void>("Page.enable", new HashMap<>()));
+            devTools.send(new Command<Void>("DOM.enable", new HashMap<>()));
+            devTools.addListener(new Event<Map<String, Object>>("Page.frameNavigated", input -> input.read(Json.MAP_TYPE)),
+                    event -> {
+                        Object frame = event.get("frame");
+                        if (frame instanceof Map && ((Map<?, ?>) frame).get("parentId") == null) {
+                            snapshot = null;
+                        }
+                    });
+            devTools.addListener(new Event<Map<String, Object>>("Page.navigatedWithinDocument", input -> input.read(Json.MAP_TYPE)),
+                    event -> snapshot = null);
+            devTools.addListener(new Event<Map<String, Object>>("DOM.documentUpdated", input -> input.read(Json.MAP_TYPE)),
+                    event -> snapshot = null);
+            listening = true;
+        }
+    }
+
+    private static PageSnapshot capture(DevTools devTools) throws ParserConfigurationException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("computedStyles", STYLES);
+        return parse(devTools.send(
+                new Command<Map<String, Object>>("DOMSnapshot.captureSnapshot", params, Json.MAP_TYPE)));
+    }
+
+    /**
+     * Build the indexed snapshot from a DOMSnapshot.captureSnapshot result (main document only)
+     */
+    @SuppressWarnings("unchecked")
+    static PageSnapshot parse(Map<String, Object> result) throws ParserConfigurationException {
+        List<String> strings = (List<String>) result.get("strings");
+        Map<String, Object> main = ((List<Map<String, Object>>) result.get("documents")).get(0);
+        Map<String, Object> nodes = (Map<String, Object>) main.get("nodes");
+        Map<String, Object> layout = (Map<String, Object>) main.get("layout");
+
+        List<Number> parentIndex = (List<Number>) nodes.get("parentIndex");
+        List<Number> nodeType = (List<Number>) nodes.get("nodeType");
+        List<Number> nodeName = (List<Number>) nodes.get("nodeName");
+        List<Number> nodeValue = (List<Number>) nodes.get("nodeValue");
+        List<List<Number>> attributes = (List<List<Number>>) nodes.get("attributes");
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        PageSnapshot snapshot = new PageSnapshot(document);
+        Node[] built = new Node[nodeType.size()];
+
+        // Nodes come in document order, so a parent is always built before its children
+        for (int i = 0; i < built.length; i++) {
+            int type = nodeType.get(i).intValue();
+            Node node = null;
+            if (type == Node.DOCUMENT_NODE && i == 0) {
+                node = document;
+            } else if (type == Node.ELEMENT_NODE) {
+                node = element(document, string(strings, nodeName.get(i)).toLowerCase(), strings, attributes.get(i));
+            } else if (type == Node.TEXT_NODE) {
+                node = document.createTextNode(string(strings, nodeValue.get(i)));
+            }
+            int parent = parentIndex.get(i).intValue();
+            built[i] = node;
+            if (node != null && node != document && parent >= 0 && built[parent] != null) {
+                try {
+                    built[parent].appendChild(node);
+                } catch (DOMException e) {
+                    built[i] = null;
+                }
+            }
+        }
+
+        // Computed visibility per laid out node; nodes without a layout object are not rendered
+        List<Number> layoutNodes = (List<Number>) layout.get("nodeIndex");
+        List<List<Number>> styles = (List<List<Number>>) layout.get("styles");
+        List<List<Number>> bounds = (List<List<Number>>) layout.get("bounds");
+        Map<Node, Boolean> transparent = new IdentityHashMap<>();
+        for (int j = 0; j < layoutNodes.size(); j++) {
+            Node node = built[layoutNodes.get(j).intValue()];
+            if (node == null || node.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+            List<Number> style = styles.get(j);
+            if ("0".equals(string(strings, style.get(2)))) {
+                transparent.put(node, Boolean.TRUE);
+            }
+            if ("none".equals(string(strings, style.get(0))) || "hidden".equals(string(strings, style.get(1)))) {
+                continue;
+            }
+            snapshot.rendered.put(node, Boolean.TRUE);
+            List<Number> box = bounds.get(j);
+            if (box.size() >= 4 && box.get(2).doubleValue() > 0 && box.get(3).doubleValue() > 0) {
+                snapshot.boxed.put(node, Boolean.TRUE);
+            }
+        }
+        // Opacity is not inherited in computed style, but a transparent ancestor hides the subtree
+        if (!transparent.isEmpty()) {
+            for (Node node : List.copyOf(snapshot.rendered.keySet())) {
+                for (Node up = node; up != null; up = up.getParentNode()) {
+                    if (transparent.containsKey(up)) {
+                        snapshot.rendered.remove(node);
+                        snapshot.boxed.remove(node);
+                        break;
+                    }
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private static Element element(Document document, String name, List<String> strings, List<Number> attributes) {
+        Element element;
+        try {
+            element = document.createElement(name);
+        } catch (DOMException e) {
+            element = document.createElement("unknown");
+        }
+        for (int k = 0; k + 1 < attributes.size(); k += 2) {
+            try {
+                element.setAttribute(string(strings, attributes.get(k)), string(strings, attributes.get(k + 1)));
+            } catch (DOMException e) {
+                // Attribute names that are valid HTML but not XML (e.g. "@click") cannot be queried anyway
+            }
+        }
+        return element;
+    }
+
+    private static String string(List<String> strings, Number index) {
+        int i = index == null ? -1 : index.intValue();
+        return i < 0 ? "" : strings.get(i);
+    }
+
+    // ---------------------------------------------------------------------
+    // Locators
+    // ---------------------------------------------------------------------
+
+    private static final Object UNSUPPORTED = new Object();
+    private static final ThreadLocal<XPath> XPATH = ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+
+    /**
+     * Thrown when a locator cannot be evaluated against the snapshot
+     */
+    private static class Unsupported extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Locator as XPath 1.0, or null when it has no local equivalent (link text, complex CSS)
+     */
+    static String toXPath(By locator) {
+        List<String> args = PageScripts.args(locator);
+        if (args == null) {
+            return null;
+        }
+        String value = args.get(1);
+        switch (args.get(0)) {
+            case "xpath":
+                return value;
+            case "id":
+                return "//*[@id=" + literal(value) + "]";
+            case "name":
+                return "//*[@name=" + literal(value) + "]";
+            case "class name":
+                return "//*[" + hasClass(value) + "]";
+            case "tag name":
+                return "//" + value.toLowerCase();
+            default:
+                return cssToXPath(value);
+        }
+    }
+
+    private static final Pattern COMPOUND = Pattern.compile(
+            "([a-zA-Z][\\w-]*|\\*)?((?:#[\\w-]+|\\.[\\w-]+|\\[[\\w-]+(?:[~^$*]?=(?:'[^']*'|\"[^\"]*\"|[\\w-]+))?\\])*)");
+    private static final Pattern PART = Pattern.compile(
+            "#([\\w-]+)|\\.([\\w-]+)|\\[([\\w-]+)(?:([~^$*]?=)(?:'([^']*)'|\"([^\"]*)\"|([\\w-]+)))?\\]");
+
+    /**
+     * Translate the CSS subset used by the page objects: type, #id, .class and attribute
+     * selectors ([a], =, ~=, ^=, $=, *=) joined by descendant or child combinators, and groups
+     */
+    static String cssToXPath(String css) {
+        StringBuilder union = new StringBuilder();
+        for (String group : css.split(",")) {
+            String selector = group.trim().replaceAll("\\s*>\\s*", " > ");
+            if (selector.isEmpty()) {
+                return null;
+            }
+            StringBuilder xpath = new StringBuilder();
+            String axis = "//";
+            for (String token : selector.split("\\s+(?![^\\[]*\\])")) {
+                if (token.equals(">")) {
+                    axis = "/";
+                    continue;
+                }
+                Matcher compound = COMPOUND.matcher(token);
+                if (!compound.matches() || token.isEmpty()) {
+                    return null;
+                }
+                xpath.append(axis).append(compound.group(1) == null ? "*" : compound.group(1).toLowerCase());
+                Matcher part = PART.matcher(compound.group(2));
+                while (part.find()) {
+                    xpath.append('[').append(condition(part)).append(']');
+                }
+                axis = "//";
+            }
+            if (union.length() > 0) {
+                union.append(" | ");
+            }
+            union.append(xpath);
+        }
+        return union.toString();
+    }
+
+    private static String condition(Matcher part) {
+        if (part.group(1) != null) {
+            return "@id=" + literal(part.group(1));
+        }
+        if (part.group(2) != null) {
+            return hasClass(part.group(2));
+        }
+        String attribute = "@" + part.group(3);
+        String operator = part.group(4);
+        if (operator == null) {
+            return attribute;
+        }
+        String value = part.group(5) != null ? part.group(5) : part.group(6) != null ? part.group(6) : part.group(7);
+        switch (operator) {
+            case "^=":
+                return "starts-with(" + attribute + "," + literal(value) + ")";
+            case "$=":
+                return "substring(" + attribute + ",string-length(" + attribute + ")-" + (value.length() - 1) + ")="
+                        + literal(value);
+            case "*=":
+                return "contains(" + attribute + "," + literal(value) + ")";
+            case "~=":
+                return "contains(concat(' ',normalize-space(" + attribute + "),' ')," + literal(" " + value + " ") + ")";
+            default:
+                return attribute + "=" + literal(value);
+        }
+    }
+
+    private static String hasClass(String name) {
+        return "contains(concat(' ',normalize-space(@class),' ')," + literal(" " + name + " ") + ")";
+    }
+
+    private static String literal(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "',\"'\",'") + "')";
+    }
+}
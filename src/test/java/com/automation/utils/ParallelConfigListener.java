@@ -0,0 +1,38 @@
+package com.automation.utils;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Parallel Config Listener - Applies parallel mode and thread count from config.properties
+ * Registered in testng.xml so the suite file does not need editing per agent
+ */
+public class ParallelConfigListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigReader config = ConfigReader.getInstance();
+        String parallel = config.getProperty("parallel", "methods");
+
+        int threadCount = resolveThreadCount();
+
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(parallel);
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threadCount);
+        }
+        System.out.println("Parallel mode: " + mode + " with " + threadCount + " threads");
+    }
+
+    /**
+     * Resolve the configured worker count
+     * 0 or blank means one worker per available core
+     * @return number of worker threads
+     */
+    public static int resolveThreadCount() {
+        int threadCount = ConfigReader.getInstance().getIntProperty("threadCount", 0);
+        return threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+    }
+}
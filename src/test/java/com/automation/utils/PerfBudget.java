@@ -0,0 +1,57 @@
+package com.automation.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Perf Budget - Front-end performance limits of the page a page object models
+ * Checked by PagePerformance.assertWithinBudget() against the page's last capture.
+ * Negative values mean "no limit". A limit can be overridden per environment in
+ * config.properties as perf.budget.<PageClass>.<metric>, e.g. perf.budget.HomePage.lcpMillis=3000
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PerfBudget {
+
+    /**
+     * Time to first byte (responseStart)
+     */
+    long ttfbMillis() default -1;
+
+    /**
+     * End of the DOMContentLoaded handlers
+     */
+    long domContentLoadedMillis() default -1;
+
+    /**
+     * End of the load handlers (not measured with pageLoadStrategy=eager/none if the test was faster)
+     */
+    long loadMillis() default -1;
+
+    /**
+     * First contentful paint
+     */
+    long fcpMillis() default -1;
+
+    /**
+     * Largest contentful paint so far
+     */
+    long lcpMillis() default -1;
+
+    /**
+     * Cumulative layout shift so far
+     */
+    double cls() default -1;
+
+    /**
+     * DOM nodes (CDP Performance.getMetrics, Chrome/Edge)
+     */
+    long nodes() default -1;
+
+    /**
+     * Used JavaScript heap in MB (CDP Performance.getMetrics, Chrome/Edge)
+     */
+    double jsHeapMb() default -1;
+}
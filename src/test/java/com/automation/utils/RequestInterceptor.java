@@ -0,0 +1,370 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Request Interceptor - Pauses every request of a Chromium session through
+ * CDP Fetch.requestPaused and lets a chain of handlers block, fulfill or continue it
+ * Uses raw CDP commands so it does not depend on a specific devtools version
+ */
+public class RequestInterceptor {
+
+    /**
+     * A handler decides what happens to a paused request
+     * Return true when the request was failed or fulfilled, false to pass it on
+     */
+    public interface Handler {
+        boolean handle(PausedRequest request);
+    }
+
+    private static final Map<WebDriver, RequestInterceptor> interceptors =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final DevTools devTools;
+    private final String mainFrameId;
+    private volatile boolean hermetic;
+    private final List<Handler> handlers = new CopyOnWriteArrayList<>();
+    private final List<Handler> responseHandlers = new CopyOnWriteArrayList<>();
+
+    private RequestInterceptor(DevTools devTools, String mainFrameId) {
+        this.devTools = devTools;
+        this.mainFrameId = mainFrameId;
+    }
+
+    /**
+     * Start intercepting requests for the driver's session
+     * @param driver Chromium based driver
+     * @return interceptor attached to the session
+     */
+    public static RequestInterceptor attach(WebDriver driver) {
+        synchronized (interceptors) {
+            RequestInterceptor existing = interceptors.get(driver);
+            if (existing != null) {
+                return existing;
+            }
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+
+            RequestInterceptor interceptor = new RequestInterceptor(devTools, mainFrameId(devTools));
+            devTools.addListener(
+                    new Event<Map<String, Object>>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                    interceptor::onRequestPaused);
+            interceptor.enable(false);
+
+            interceptors.put(driver, interceptor);
+            return interceptor;
+        }
+    }
+
+    /**
+     * Send Fetch.enable - patterns replace any previous ones
+     * @param responseStage also pause responses (before the body reaches the page)
+     */
+    private void enable(boolean responseStage) {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String stage : responseStage ? List.of("Request", "Response") : List.of("Request")) {
+            Map<String, Object> pattern = new HashMap<>();
+            pattern.put("urlPattern", "*");
+            pattern.put("requestStage", stage);
+            patterns.add(pattern);
+        }
+        Map<String, Object> params = new HashMap<>();
+        params.put("patterns", patterns);
+        devTools.send(new Command<Void>("Fetch.enable", params));
+    }
+
+    /**
+     * Id of the tab's top-level frame - it does not change when the tab navigates
+     * @return frame id, or null when the frame tree is not available
+     */
+    @SuppressWarnings("unchecked")
+    private static String mainFrameId(DevTools devTools) {
+        try {
+            Map<String, Object> result = devTools.send(
+                    new Command<Map<String, Object>>("Page.getFrameTree", Collections.emptyMap(), Json.MAP_TYPE));
+            Map<String, Object> frame = (Map<String, Object>) ((Map<String, Object>) result.get("frameTree")).get("frame");
+            return (String) frame.get("id");
+        } catch (Exception e) {
+            System.out.println("Main frame unknown, iframes are treated as documents: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get the interceptor attached to the driver, if any
+     * @param driver WebDriver instance
+     * @return interceptor or null when interception is not active
+     */
+    public static RequestInterceptor forDriver(WebDriver driver) {
+        return interceptors.get(driver);
+    }
+
+    /**
+     * Fail requests instead of continuing them to the network when a handler throws
+     * or none resolves them (network.mode=replay)
+     * @param hermetic true to never let a request through to the network
+     */
+    void setHermetic(boolean hermetic) {
+        this.hermetic = hermetic;
+    }
+
+    /**
+     * Add a handler at the end of the chain
+     * @param handler request handler
+     */
+    public void addHandler(Handler handler) {
+        handlers.add(handler);
+    }
+
+    /**
+     * Add a handler for the response stage, e.g. to read response bodies
+     * The first response handler switches on response interception
+     * @param handler response handler
+     */
+    public synchronized void addResponseHandler(Handler handler) {
+        if (responseHandlers.isEmpty()) {
+            enable(true);
+        }
+        responseHandlers.add(handler);
+    }
+
+    /**
+     * Run the handler chain - any error still continues the request, so a page never hangs
+     * (in hermetic mode it fails the request instead, so nothing reaches the network)
+     * A request counts as handled only once its fail/fulfill/continue command was sent successfully
+     */
+    private void onRequestPaused(Map<String, Object> event) {
+        PausedRequest request = new PausedRequest(devTools, mainFrameId, event);
+        try {
+            for (Handler handler : request.isResponseStage() ? responseHandlers : handlers) {
+                if (handler.handle(request) && request.isResolved()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Error in request handler for " + request.getUrl() + ": " + e.getMessage());
+        }
+        if (!request.isResolved()) {
+            try {
+                if (hermetic) {
+                    request.fail();
+                } else {
+                    request.proceed();
+                }
+            } catch (Exception e) {
+                System.out.println("Could not " + (hermetic ? "fail " : "continue ") + request.getUrl() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Paused Request - One Fetch.requestPaused event and the actions available on it
+     */
+    public static class PausedRequest {
+
+        private final DevTools devTools;
+        private final String mainFrameId;
+        private final Map<String, Object> event;
+        private final Map<String, Object> request;
+        private String host;
+        private boolean resolved;
+
+        @SuppressWarnings("unchecked")
+        PausedRequest(DevTools devTools, String mainFrameId, Map<String, Object> event) {
+            this.devTools = devTools;
+            this.mainFrameId = mainFrameId;
+            this.event = event;
+            this.request = (Map<String, Object>) event.get("request");
+        }
+
+        /**
+         * @return request URL
+         */
+        public String getUrl() {
+            return (String) request.get("url");
+        }
+
+        /**
+         * @return HTTP method
+         */
+        public String getMethod() {
+            return (String) request.get("method");
+        }
+
+        /**
+         * Resource type reported by the browser - a document loaded into any frame
+         * but the top-level one is an iframe (SUBDOCUMENT)
+         * @return resource type
+         */
+        public ResourceType getResourceType() {
+            ResourceType type = ResourceType.fromCdp((String) event.get("resourceType"));
+            Object frameId = event.get("frameId");
+            if (type == ResourceType.DOCUMENT && mainFrameId != null && frameId != null && !mainFrameId.equals(frameId)) {
+                return ResourceType.SUBDOCUMENT;
+            }
+            return type;
+        }
+
+        /**
+         * @return request body, or null for requests without one
+         */
+        public String getPostData() {
+            return (String) request.get("postData");
+        }
+
+        /**
+         * @return true when paused after the response headers arrived
+         */
+        public boolean isResponseStage() {
+            return event.containsKey("responseStatusCode") || event.containsKey("responseErrorReason");
+        }
+
+        /**
+         * @return response status code (response stage only)
+         */
+        public int getResponseStatus() {
+            Object status = event.get("responseStatusCode");
+            return status == null ? 0 : ((Number) status).intValue();
+        }
+
+        /**
+         * @return network error of a failed response, e.g. "ConnectionReset", or null (response stage only)
+         */
+        public String getResponseErrorReason() {
+            return (String) event.get("responseErrorReason");
+        }
+
+        /**
+         * @return response headers as CDP name/value entries (response stage only)
+         */
+        @SuppressWarnings("unchecked")
+        public List<Map<String, Object>> getResponseHeaders() {
+            Object headers = event.get("responseHeaders");
+            return headers == null ? new ArrayList<>() : (List<Map<String, Object>>) headers;
+        }
+
+        /**
+         * Read the response body (response stage only)
+         * @return decoded body bytes, empty for bodiless responses such as redirects
+         */
+        public byte[] getResponseBody() {
+            Map<String, Object> params = new HashMap<>();
+            params.put("requestId", event.get("requestId"));
+            try {
+                Map<String, Object> result = devTools.send(
+                        new Command<Map<String, Object>>("Fetch.getResponseBody", params, Json.MAP_TYPE));
+                String body = (String) result.get("body");
+                if (body == null) {
+                    return new byte[0];
+                }
+                return Boolean.TRUE.equals(result.get("base64Encoded"))
+                        ? Base64.getDecoder().decode(body)
+                        : body.getBytes(StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                return new byte[0];
+            }
+        }
+
+        /**
+         * Lower-case host of the request URL
+         * @return host, or empty string for URLs without one (data:, blob:)
+         */
+        public String getHost() {
+            if (host == null) {
+                try {
+                    String parsed = URI.create(getUrl()).getHost();
+                    host = parsed == null ? "" : parsed.toLowerCase();
+                } catch (IllegalArgumentException e) {
+                    host = "";
+                }
+            }
+            return host;
+        }
+
+        boolean isResolved() {
+            return resolved;
+        }
+
+        /**
+         * Abort the request as if blocked by an extension
+         */
+        public void block() {
+            Map<String, Object> params = new HashMap<>();
+            params.put("requestId", event.get("requestId"));
+            params.put("errorReason", "BlockedByClient");
+            send("Fetch.failRequest", params);
+        }
+
+        /**
+         * Abort the request with a network error
+         */
+        void fail() {
+            Map<String, Object> params = new HashMap<>();
+            params.put("requestId", event.get("requestId"));
+            params.put("errorReason", "Failed");
+            send("Fetch.failRequest", params);
+        }
+
+        /**
+         * Answer the request without touching the network
+         * @param status HTTP status code
+         * @param headers response headers
+         * @param body response body
+         */
+        public void fulfill(int status, Map<String, String> headers, byte[] body) {
+            List<Map<String, Object>> headerEntries = new ArrayList<>();
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                Map<String, Object> entry = new HashMap<>();
+                entry.put("name", header.getKey());
+                entry.put("value", header.getValue());
+                headerEntries.add(entry);
+            }
+            fulfill(status, headerEntries, body);
+        }
+
+        /**
+         * Answer the request with CDP name/value header entries (keeps repeated headers such as Set-Cookie)
+         * @param status HTTP status code
+         * @param headerEntries response headers
+         * @param body response body
+         */
+        public void fulfill(int status, List<Map<String, Object>> headerEntries, byte[] body) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("requestId", event.get("requestId"));
+            params.put("responseCode", status);
+            params.put("responseHeaders", headerEntries);
+            params.put("body", Base64.getEncoder().encodeToString(body));
+            send("Fetch.fulfillRequest", params);
+        }
+
+        /**
+         * Let the request go to the network unchanged
+         */
+        public void proceed() {
+            Map<String, Object> params = new HashMap<>();
+            params.put("requestId", event.get("requestId"));
+            send("Fetch.continueRequest", params);
+        }
+
+        private void send(String method, Map<String, Object> params) {
+            devTools.send(new Command<Void>(method, params));
+            resolved = true;
+        }
+    }
+}
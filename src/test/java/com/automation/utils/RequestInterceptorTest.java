@@ -0,0 +1,63 @@
+package com.automation.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Request Interceptor Test - Resource type of paused requests, without a browser
+ */
+public class RequestInterceptorTest {
+
+    private static final String MAIN_FRAME = "MAIN";
+
+    private static RequestInterceptor.PausedRequest paused(String mainFrameId, String resourceType, String frameId) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("url", "https://ads.example.net/frame.html");
+        request.put("method", "GET");
+        Map<String, Object> event = new HashMap<>();
+        event.put("requestId", "interception-1");
+        event.put("request", request);
+        event.put("resourceType", resourceType);
+        if (frameId != null) {
+            event.put("frameId", frameId);
+        }
+        return new RequestInterceptor.PausedRequest(null, mainFrameId, event);
+    }
+
+    @Test
+    public void testTopLevelDocumentIsDocument() {
+        Assert.assertEquals(paused(MAIN_FRAME, "Document", MAIN_FRAME).getResourceType(), ResourceType.DOCUMENT);
+    }
+
+    @Test
+    public void testIframeDocumentIsSubdocument() {
+        Assert.assertEquals(paused(MAIN_FRAME, "Document", "CHILD").getResourceType(), ResourceType.SUBDOCUMENT);
+    }
+
+    @Test
+    public void testIframeSubresourceKeepsItsType() {
+        Assert.assertEquals(paused(MAIN_FRAME, "Image", "CHILD").getResourceType(), ResourceType.IMAGE);
+        Assert.assertEquals(paused(MAIN_FRAME, "Script", "CHILD").getResourceType(), ResourceType.SCRIPT);
+    }
+
+    @Test
+    public void testUnknownMainFrameKeepsDocument() {
+        Assert.assertEquals(paused(null, "Document", "CHILD").getResourceType(), ResourceType.DOCUMENT);
+        Assert.assertEquals(paused(MAIN_FRAME, "Document", null).getResourceType(), ResourceType.DOCUMENT);
+    }
+
+    @Test
+    public void testSubdocumentIsNotACdpName() {
+        Assert.assertEquals(ResourceType.fromCdp("Subdocument"), ResourceType.OTHER);
+        Assert.assertEquals(ResourceType.fromCdp(null), ResourceType.OTHER);
+    }
+
+    @Test
+    public void testSubdocumentMatchesUntypedFilters() {
+        Assert.assertTrue((ResourceType.allButDocument() & ResourceType.SUBDOCUMENT.mask()) != 0);
+        Assert.assertEquals(ResourceType.maskForFilterOption("frame"), ResourceType.SUBDOCUMENT.mask());
+    }
+}
@@ -0,0 +1,106 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Resource Blocker - Request handler that applies the active LeanPage profile of a session
+ * One blocker is attached per browser; the profile is switched per test
+ */
+public class ResourceBlocker implements RequestInterceptor.Handler {
+
+    private static final byte[] PLACEHOLDER_GIF =
+            Base64.getDecoder().decode("R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7");
+    private static final Map<String, String> PLACEHOLDER_HEADERS =
+            Map.of("Content-Type", "image/gif", "Cache-Control", "no-store");
+
+    private static final Map<WebDriver, ResourceBlocker> blockers =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String firstPartyDomain;
+    private volatile LeanPage profile;
+
+    private ResourceBlocker() {
+        String baseHost = URI.create(ConfigReader.getInstance().getProperty("baseUrl")).getHost().toLowerCase();
+        this.firstPartyDomain = AdBlockFilterEngine.registrableDomain(baseHost);
+    }
+
+    /**
+     * Create the blocker for a session and add it to the session's interceptor
+     * @param interceptor session's request interceptor
+     * @param driver WebDriver instance
+     */
+    static void attach(RequestInterceptor interceptor, WebDriver driver) {
+        ResourceBlocker blocker = new ResourceBlocker();
+        interceptor.addHandler(blocker);
+        blockers.put(driver, blocker);
+    }
+
+    /**
+     * Activate a lean profile for the driver (null switches it off)
+     * @param driver WebDriver instance
+     * @param profile profile from the test's @LeanPage annotation
+     * @return false if the session has no request interception (e.g. firefox)
+     */
+    public static boolean apply(WebDriver driver, LeanPage profile) {
+        ResourceBlocker blocker = blockers.get(driver);
+        if (blocker == null) {
+            return false;
+        }
+        blocker.profile = profile;
+        return true;
+    }
+
+    @Override
+    public boolean handle(RequestInterceptor.PausedRequest request) {
+        LeanPage active = profile;
+        if (active == null) {
+            return false;
+        }
+        ResourceType type = request.getResourceType();
+        if (type == ResourceType.DOCUMENT) {
+            return false;
+        }
+
+        if (type == ResourceType.IMAGE) {
+            if (active.images() == LeanPage.ImageMode.PLACEHOLDER) {
+                request.fulfill(200, PLACEHOLDER_HEADERS, PLACEHOLDER_GIF);
+                return true;
+            }
+            if (active.images() == LeanPage.ImageMode.BLOCK) {
+                request.block();
+                return true;
+            }
+        }
+
+        for (ResourceType blocked : active.block()) {
+            if (blocked == type) {
+                request.block();
+                return true;
+            }
+        }
+
+        if (active.blockThirdParty() && type != ResourceType.STYLESHEET && isThirdParty(request.getHost(), active)) {
+            request.block();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isThirdParty(String host, LeanPage active) {
+        if (host.isEmpty() || AdBlockFilterEngine.registrableDomain(host).equals(firstPartyDomain)) {
+            return false;
+        }
+        for (String allowed : active.allowHosts()) {
+            if (host.equals(allowed) || host.endsWith("." + allowed)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package com.automation.utils;
+
+/**
+ * Resource Type - Request types reported by CDP (Network.ResourceType)
+ * mapped to the option names used in adblock filter lists
+ * CDP reports iframe documents as "Document" too; SUBDOCUMENT is assigned by
+ * RequestInterceptor.PausedRequest from the request's frame
+ */
+public enum ResourceType {
+
+    DOCUMENT("Document", "document"),
+    STYLESHEET("Stylesheet", "stylesheet"),
+    IMAGE("Image", "image"),
+    MEDIA("Media", "media"),
+    FONT("Font", "font"),
+    SCRIPT("Script", "script"),
+    XHR("XHR", "xmlhttprequest"),
+    FETCH("Fetch", "xmlhttprequest"),
+    SUBDOCUMENT(null, "subdocument"),
+    WEBSOCKET("WebSocket", "websocket"),
+    PING("Ping", "ping"),
+    OTHER("Other", "other");
+
+    private final String cdpName;
+    private final String filterOption;
+
+    ResourceType(String cdpName, String filterOption) {
+        this.cdpName = cdpName;
+        this.filterOption = filterOption;
+    }
+
+    /**
+     * Bit used in resource type masks
+     * @return bit mask for this type
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Map a CDP resource type name to a ResourceType
+     * @param cdpName e.g. "Image", "XHR"
+     * @return matching type, OTHER when unknown
+     */
+    public static ResourceType fromCdp(String cdpName) {
+        if (cdpName != null) {
+            for (ResourceType type : values()) {
+                if (cdpName.equals(type.cdpName)) {
+                    return type;
+                }
+            }
+            if (cdpName.equals("Beacon") || cdpName.equals("CSPViolationReport")) {
+                return PING;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Resource type mask for a filter list option name
+     * @param option e.g. "image", "xmlhttprequest", "xhr"
+     * @return mask, or 0 when the option is not a resource type
+     */
+    public static int maskForFilterOption(String option) {
+        String name = option.equals("xhr") ? "xmlhttprequest"
+                : option.equals("css") ? "stylesheet"
+                : option.equals("frame") ? "subdocument"
+                : option.equals("doc") ? "document"
+                : option;
+        int mask = 0;
+        for (ResourceType type : values()) {
+            if (type.filterOption.equals(name)) {
+                mask |= type.mask();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Mask of every type except the top-level document
+     * (filters without a type option do not apply to documents)
+     * @return mask
+     */
+    public static int allButDocument() {
+        int mask = 0;
+        for (ResourceType type : values()) {
+            if (type != DOCUMENT) {
+                mask |= type.mask();
+            }
+        }
+        return mask;
+    }
+}
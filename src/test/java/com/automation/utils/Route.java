@@ -0,0 +1,17 @@
+package com.automation.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Route - Path of the page a page object models, relative to baseUrl
+ * Placeholders {0}, {1}... are filled from Navigator.open() parameters,
+ * e.g. @Route("/brand_products/{0}") opened with "Polo"
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Route {
+    String value();
+}
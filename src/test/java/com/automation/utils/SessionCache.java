@@ -0,0 +1,351 @@
+package com.automation.utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Session Cache - Logs each account in once per worker thread and reuses the auth
+ * cookies in later browser sessions
+ *
+ * restore() injects the cached cookies before the first navigation (CDP Network.setCookie on
+ * Chromium, a same-origin stub page elsewhere). Entries expire with their cookies or after
+ * session.maxAgeMinutes, and are revalidated over HTTP once older than session.revalidateSeconds;
+ * a session the server no longer accepts is logged in again.
+ * session.login selects how a missing session is created: http (POST /login, no browser) | ui
+ * Entries are per worker thread, but every login of one account shares that account's
+ * server-side cart - parallel tests that change the cart need their own account (AccountPool).
+ */
+public class SessionCache {
+
+    private static SessionCache instance;
+
+    private static final Pattern CSRF = Pattern.compile("name=\"csrfmiddlewaretoken\"\\s+value=\"([^\"]+)\"");
+    private static final String LOGGED_IN_MARKER = "Logged in as";
+    private static final HttpClient VALIDATION_CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<WebDriver, String> restoredInto = Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder logins = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    private SessionCache() {
+    }
+
+    /**
+     * Get singleton instance
+     * @return SessionCache instance
+     */
+    public static synchronized SessionCache getInstance() {
+        if (instance == null) {
+            instance = new SessionCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Put a logged in session for the account into the browser, before its first navigation
+     * Logs in over HTTP first when nothing usable is cached and session.login=http
+     * @param driver WebDriver instance
+     * @param email account email
+     * @param password account password
+     * @return true if the browser now carries a logged in session;
+     *         false if the caller has to log in through the UI (and then call capture())
+     */
+    public boolean restore(WebDriver driver, String email, String password) {
+        if (!NetworkArchive.mode().equals("live")) {
+            // The login has to be in the archive - log in through the login page in every test
+            return false;
+        }
+        String key = key(email);
+        Entry entry = entries.get(key);
+        if (entry != null && !isUsable(entry)) {
+            entries.remove(key);
+            refreshes.increment();
+            entry = null;
+        }
+        if (entry == null) {
+            if (!"http".equalsIgnoreCase(ConfigReader.getInstance().getProperty("session.login", "http"))) {
+                return false;
+            }
+            entry = loginOverHttp(email, password);
+            if (entry == null) {
+                return false;
+            }
+            entries.put(key, entry);
+            logins.increment();
+        } else {
+            hits.increment();
+        }
+        inject(driver, entry.cookies);
+        restoredInto.put(driver, key);
+        return true;
+    }
+
+    /**
+     * Remember the session of a browser that was just logged in through the UI
+     * @param driver WebDriver instance, on a page of the site
+     * @param email account email
+     */
+    public void capture(WebDriver driver, String email) {
+        List<Cookie> cookies = new ArrayList<>(driver.manage().getCookies());
+        if (!cookies.isEmpty()) {
+            entries.put(key(email), new Entry(cookies));
+            restoredInto.put(driver, key(email));
+            logins.increment();
+        }
+    }
+
+    /**
+     * Log an account in over HTTP in a new session of its own - no browser, not cached
+     * Used to act as a pool account after its test's browser is gone (or logged out)
+     * @param email account email
+     * @param password account password
+     * @return Cookie header value of the new session, or null if the site did not log the account in
+     */
+    public String logInOverHttp(String email, String password) {
+        NetworkArchive.requireLive("HTTP login of " + email);
+        Entry entry = loginOverHttp(email, password);
+        return entry == null ? null : cookieHeader(entry.cookies);
+    }
+
+    /**
+     * Forget the session a browser is using - call after logging out, which ends it on the server
+     * @param driver WebDriver instance
+     */
+    public void evict(WebDriver driver) {
+        String key = restoredInto.remove(driver);
+        if (key != null) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Check if a browser was given a cached (or freshly captured) session
+     * @param driver WebDriver instance
+     * @return true if restore() or capture() logged this browser in
+     */
+    public boolean isRestored(WebDriver driver) {
+        return restoredInto.containsKey(driver);
+    }
+
+    /**
+     * Forget which session a browser carries, keeping the session cached -
+     * call when the browser is quit or reset for the next test
+     * @param driver WebDriver instance
+     */
+    public void detach(WebDriver driver) {
+        restoredInto.remove(driver);
+    }
+
+    /**
+     * Print cache hits and logins
+     */
+    public void printStats() {
+        if (hits.sum() + logins.sum() == 0) {
+            return;
+        }
+        System.out.println("=== Session Cache ===");
+        System.out.println("Restored from cache: " + hits.sum() + ", logins: " + logins.sum()
+                + " (" + refreshes.sum() + " after expiry)");
+    }
+
+    // ---------------------------------------------------------------------
+    // Expiry
+    // ---------------------------------------------------------------------
+
+    private boolean isUsable(Entry entry) {
+        long age = System.currentTimeMillis() - entry.createdAt;
+        if (age > ConfigReader.getInstance().getIntProperty("session.maxAgeMinutes", 30) * 60_000L) {
+            return false;
+        }
+        Date now = new Date();
+        for (Cookie cookie : entry.cookies) {
+            if (cookie.getExpiry() != null && cookie.getExpiry().before(now)) {
+                return false;
+            }
+        }
+        if (System.currentTimeMillis() - entry.validatedAt
+                < ConfigReader.getInstance().getIntProperty("session.revalidateSeconds", 60) * 1000L) {
+            return true;
+        }
+        boolean valid = isLoggedIn(entry.cookies);
+        if (valid) {
+            entry.validatedAt = System.currentTimeMillis();
+        }
+        return valid;
+    }
+
+    /**
+     * Ask the server: does the home page greet the session's user?
+     */
+    private boolean isLoggedIn(List<Cookie> cookies) {
+        try {
+            HttpResponse<String> response = VALIDATION_CLIENT.send(HttpRequest.newBuilder(URI.create(baseUrl() + "/"))
+                    .header("Cookie", cookieHeader(cookies))
+                    .timeout(Duration.ofSeconds(30))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && response.body().contains(LOGGED_IN_MARKER);
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Login and injection
+    // ---------------------------------------------------------------------
+
+    /**
+     * GET /login for the CSRF token, then POST the login form with a private cookie jar
+     * @return entry with the jar's cookies, or null if the site did not log the account in
+     */
+    private Entry loginOverHttp(String email, String password) {
+        CookieManager jar = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(jar)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String loginUrl = baseUrl() + "/login";
+        try {
+            String form = client.send(HttpRequest.newBuilder(URI.create(loginUrl)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            StringBuilder body = new StringBuilder();
+            Matcher csrf = CSRF.matcher(form);
+            if (csrf.find()) {
+                body.append("csrfmiddlewaretoken=").append(encode(csrf.group(1))).append('&');
+            }
+            body.append("email=").append(encode(email)).append("&password=").append(encode(password));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(loginUrl))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .header("Referer", loginUrl)
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (!response.body().contains(LOGGED_IN_MARKER)) {
+                System.out.println("HTTP login did not log in " + email + " (status " + response.statusCode() + ")");
+                return null;
+            }
+        } catch (IOException e) {
+            System.out.println("HTTP login failed: " + e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        List<Cookie> cookies = new ArrayList<>();
+        String host = URI.create(baseUrl()).getHost();
+        for (HttpCookie cookie : jar.getCookieStore().getCookies()) {
+            // CookieManager reports host-only cookies of dotless hosts as "<host>.local"
+            String domain = cookie.getDomain() != null && cookie.getDomain().startsWith(".") ? cookie.getDomain() : host;
+            Date expiry = cookie.getMaxAge() < 0 ? null
+                    : new Date(System.currentTimeMillis() + cookie.getMaxAge() * 1000L);
+            cookies.add(new Cookie(cookie.getName(), cookie.getValue(),
+                    domain,
+                    cookie.getPath() == null ? "/" : cookie.getPath(),
+                    expiry, cookie.getSecure(), cookie.isHttpOnly()));
+        }
+        return new Entry(cookies);
+    }
+
+    /**
+     * Set cookies without loading a page of the site first where the browser allows it
+     */
+    private void inject(WebDriver driver, List<Cookie> cookies) {
+        WebDriver browser = DriverManager.unwrap(driver);
+        if (browser instanceof ChromiumDriver) {
+            for (Cookie cookie : cookies) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("name", cookie.getName());
+                params.put("value", cookie.getValue());
+                if (cookie.getDomain() != null && cookie.getDomain().startsWith(".")) {
+                    params.put("domain", cookie.getDomain());
+                } else {
+                    // Host-only cookie - a domain would widen it to subdomains
+                    params.put("url", baseUrl() + "/");
+                }
+                params.put("path", cookie.getPath());
+                params.put("secure", cookie.isSecure());
+                params.put("httpOnly", cookie.isHttpOnly());
+                if (cookie.getExpiry() != null) {
+                    params.put("expires", cookie.getExpiry().getTime() / 1000.0);
+                }
+                ((ChromiumDriver) browser).executeCdpCommand("Network.setCookie", params);
+            }
+            return;
+        }
+        // WebDriver only sets cookies for the current origin - load a tiny same-origin response first
+        driver.get(baseUrl() + "/favicon.ico");
+        Set<Cookie> existing = driver.manage().getCookies();
+        for (Cookie cookie : cookies) {
+            if (!existing.contains(cookie)) {
+                driver.manage().addCookie(cookie);
+            }
+        }
+    }
+
+    private static String cookieHeader(List<Cookie> cookies) {
+        StringBuilder header = new StringBuilder();
+        for (Cookie cookie : cookies) {
+            header.append(header.length() == 0 ? "" : "; ").append(cookie.getName()).append('=').append(cookie.getValue());
+        }
+        return header.toString();
+    }
+
+    private static String key(String email) {
+        return email + "|" + Thread.currentThread().getName();
+    }
+
+    private static String baseUrl() {
+        String baseUrl = ConfigReader.getInstance().getProperty("baseUrl");
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Entry - Auth cookies of one account on one worker thread
+     */
+    private static class Entry {
+        final List<Cookie> cookies;
+        final long createdAt = System.currentTimeMillis();
+        volatile long validatedAt = createdAt;
+
+        Entry(List<Cookie> cookies) {
+            this.cookies = cookies;
+        }
+    }
+}
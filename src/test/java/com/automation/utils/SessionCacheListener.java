@@ -0,0 +1,16 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Session Cache Listener - Prints how many logins the session cache saved
+ * when the suite finishes
+ */
+public class SessionCacheListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        SessionCache.getInstance().printStats();
+    }
+}
@@ -0,0 +1,121 @@
+package com.automation.utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.WeakHashMap;
+
+/**
+ * Session HTTP - Plain HTTP requests made as the browser session
+ * Copies the session's cookies (and user agent) onto requests sent through one shared
+ * HttpClient, so its connection pool is reused by every test thread.
+ * For resources the test only needs to read, like invoices, this skips the browser entirely.
+ */
+public final class SessionHttp {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private static final Map<WebDriver, String> userAgents = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private SessionHttp() {
+    }
+
+    /**
+     * GET a URL with the session's cookies, streaming the body
+     * @param driver WebDriver instance whose cookies are sent
+     * @param url absolute URL
+     * @return response with an unread body stream (close it after reading)
+     * @throws IOException if the request fails or the status is not 2xx
+     */
+    public static HttpResponse<InputStream> get(WebDriver driver, String url) throws IOException {
+        HttpResponse<InputStream> response = send(request(driver, url).GET().build());
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            throw new IOException("GET " + url + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    /**
+     * Send a request built with request(), streaming the body
+     * @param request request
+     * @return response with an unread body stream
+     * @throws IOException if the request fails
+     */
+    public static HttpResponse<InputStream> send(HttpRequest request) throws IOException {
+        NetworkArchive.requireLive("SessionHttp (" + request.method() + " " + request.uri().getPath() + ")");
+        try {
+            return CLIENT.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted: " + request.method() + " " + request.uri(), e);
+        }
+    }
+
+    /**
+     * Request builder carrying the session's cookies for the URL and the browser's user agent
+     * @param driver WebDriver instance
+     * @param url absolute URL
+     * @return request builder
+     */
+    public static HttpRequest.Builder request(WebDriver driver, String url) {
+        URI uri = URI.create(url);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("User-Agent", userAgent(driver));
+        String cookies = cookieHeader(driver, uri);
+        if (!cookies.isEmpty()) {
+            builder.header("Cookie", cookies);
+        }
+        return builder;
+    }
+
+    /**
+     * Cookie header value for a URL - the browser's cookies whose domain, path and secure flag match
+     */
+    static String cookieHeader(WebDriver driver, URI uri) {
+        String host = uri.getHost().toLowerCase();
+        String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+        boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        StringJoiner header = new StringJoiner("; ");
+        for (Cookie cookie : driver.manage().getCookies()) {
+            String domain = cookie.getDomain() == null ? host : cookie.getDomain().toLowerCase();
+            if (domain.startsWith(".")) {
+                domain = domain.substring(1);
+            }
+            boolean domainMatches = host.equals(domain) || host.endsWith("." + domain);
+            String cookiePath = cookie.getPath() == null ? "/" : cookie.getPath();
+            if (domainMatches && path.startsWith(cookiePath) && (https || !cookie.isSecure())) {
+                header.add(cookie.getName() + "=" + cookie.getValue());
+            }
+        }
+        return header.toString();
+    }
+
+    /**
+     * The browser's navigator.userAgent, read once per session
+     */
+    private static String userAgent(WebDriver driver) {
+        return userAgents.computeIfAbsent(driver, d -> {
+            try {
+                return String.valueOf(((JavascriptExecutor) d).executeScript("return navigator.userAgent"));
+            } catch (Exception e) {
+                return "Java-http-client";
+            }
+        });
+    }
+}
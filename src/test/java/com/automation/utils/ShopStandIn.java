@@ -0,0 +1,932 @@
+package com.automation.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shop Stand-In - Embedded HTTP server that mimics automationexercise.com for local runs
+ * Serves the pages, data-qa and data-product-id hooks the page objects use and keeps
+ * cart, login and order state per browser session (cookie), so the suite can run
+ * hundreds of parallel sessions against baseUrl=http://localhost:port without rate limits.
+ * Server-side latency is measured per route and reported separately from browser time.
+ * Demonstrates Singleton pattern and Encapsulation
+ */
+public class ShopStandIn {
+
+    private static final String SESSION_COOKIE = "standin_session";
+
+    private static volatile ShopStandIn instance;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private String baseUrl;
+
+    // State
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+    private final Map<Integer, Order> orders = new ConcurrentHashMap<>();
+    private final AtomicInteger orderIds = new AtomicInteger(1000);
+
+    // Metrics
+    private final Map<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor (Singleton pattern)
+     */
+    private ShopStandIn() {
+    }
+
+    /**
+     * Get singleton instance
+     * @return ShopStandIn instance
+     */
+    public static ShopStandIn getInstance() {
+        if (instance == null) {
+            synchronized (ShopStandIn.class) {
+                if (instance == null) {
+                    instance = new ShopStandIn();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check if the suite should run against the stand-in
+     * @return true if standIn.enabled=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getInstance().getProperty("standIn.enabled", "false"));
+    }
+
+    /**
+     * Start the server (no-op when already running)
+     * @return base URL, e.g. http://localhost:53211
+     */
+    public synchronized String start() {
+        if (server != null) {
+            return baseUrl;
+        }
+        int port = ConfigReader.getInstance().getIntProperty("standIn.port", 0);
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start shop stand-in on port " + port, e);
+        }
+        // Each browser keeps a few connections open, so do not cap the worker count
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+        System.out.println("Shop stand-in started at " + baseUrl);
+        return baseUrl;
+    }
+
+    /**
+     * Stop the server and print its latency report
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        printLatency();
+    }
+
+    /**
+     * @return base URL of the running server, or null when stopped
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Print server-side latency per route - time spent inside the stand-in,
+     * so anything above it in test timings is browser and framework overhead
+     */
+    public void printLatency() {
+        System.out.println("=== Shop Stand-In Latency ===");
+        List<Map.Entry<String, RouteStats>> entries = new ArrayList<>(routeStats.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalNanos.sum(), a.getValue().totalNanos.sum()));
+        long requests = 0;
+        long totalNanos = 0;
+        for (Map.Entry<String, RouteStats> entry : entries) {
+            RouteStats stats = entry.getValue();
+            long count = stats.count.sum();
+            requests += count;
+            totalNanos += stats.totalNanos.sum();
+            System.out.printf("%-28s %6d requests, avg %.2f ms, max %.2f ms%n", entry.getKey(), count,
+                    stats.totalNanos.sum() / 1_000_000.0 / Math.max(count, 1), stats.maxNanos.get() / 1_000_000.0);
+        }
+        System.out.printf("Total: %d requests, %.1f ms server time, %d sessions, %d orders%n",
+                requests, totalNanos / 1_000_000.0, sessions.size(), orders.size());
+    }
+
+    /**
+     * Run the stand-in on its own, e.g. for manual exploration or a shared local instance
+     * @param args optional port
+     */
+    public static void main(String[] args) {
+        if (args.length > 0) {
+            System.setProperty("standIn.port", args[0]);
+        }
+        ShopStandIn standIn = getInstance();
+        standIn.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(standIn::stop));
+    }
+
+    // ---------------------------------------------------------------------
+    // Request handling
+    // ---------------------------------------------------------------------
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        Request request = new Request(exchange);
+        Response response;
+        try {
+            response = route(request);
+        } catch (Exception e) {
+            System.out.println("Shop stand-in error on " + request.path + ": " + e.getMessage());
+            response = Response.text(500, "Internal error: " + e.getMessage());
+        }
+        if (request.newSession) {
+            response.headers.put("Set-Cookie", SESSION_COOKIE + "=" + request.session.id + "; Path=/; HttpOnly");
+        }
+        long nanos = System.nanoTime() - start;
+        response.headers.put("Server-Timing", String.format("app;dur=%.2f", nanos / 1_000_000.0));
+
+        try (OutputStream body = exchange.getResponseBody()) {
+            response.headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            exchange.getResponseHeaders().set("Content-Type", response.contentType);
+            exchange.sendResponseHeaders(response.status, response.body.length == 0 ? -1 : response.body.length);
+            if (response.body.length > 0) {
+                body.write(response.body);
+            }
+        }
+        routeStats.computeIfAbsent(request.routeName(), k -> new RouteStats()).record(nanos);
+    }
+
+    private Response route(Request request) {
+        String[] parts = request.path.split("/", 3);
+        String section = parts.length > 1 ? parts[1] : "";
+        String argument = parts.length > 2 ? parts[2] : "";
+        boolean post = request.method.equals("POST");
+
+        switch (section) {
+            case "":
+                return Response.html(layout(request.session, "Automation Exercise", homePage()));
+            case "products":
+                return Response.html(layout(request.session, "Automation Exercise - All Products",
+                        productsPage(request.query.get("search"))));
+            case "brand_products":
+                return Response.html(layout(request.session, "Automation Exercise - Brand Products", brandPage(argument)));
+            case "product_details":
+                return productDetails(request, argument);
+            case "get_product_picture":
+                return picture(argument);
+            case "add_to_cart":
+                return addToCart(request, argument);
+            case "delete_cart":
+                request.session.removeFromCart(parseId(argument));
+                return Response.redirect("/view_cart");
+            case "view_cart":
+                return Response.html(layout(request.session, "Automation Exercise - Checkout", cartPage(request.session)));
+            case "login":
+                return post ? login(request) : Response.html(layout(request.session, "Automation Exercise - Signup / Login", loginPage("")));
+            case "logout":
+                request.session.user = null;
+                return Response.redirect("/login");
+            case "checkout":
+                return request.session.user == null ? Response.redirect("/login")
+                        : Response.html(layout(request.session, "Automation Exercise - Checkout", checkoutPage(request.session)));
+            case "payment":
+                if (request.session.user == null) {
+                    return Response.redirect("/login");
+                }
+                return post ? pay(request) : Response.html(layout(request.session, "Automation Exercise - Payment", paymentPage("")));
+            case "payment_done":
+                return paymentDone(request, argument);
+            case "download_invoice":
+                return invoice(request, argument);
+            case "api":
+                return "createAccount".equals(argument) && post ? createAccount(request)
+                        : Response.text(405, "This request method is not supported.");
+            case "product_review":
+                return Response.json("{\"status\": \"success\"}");
+            case "test_cases":
+                return Response.html(layout(request.session, "Automation Practice Website for UI Testing - Test Cases", testCasesPage()));
+            default:
+                return Response.text(404, "Not found: " + request.path);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Actions
+    // ---------------------------------------------------------------------
+
+    private Response productDetails(Request request, String argument) {
+        Product product = Catalog.find(parseId(argument));
+        if (product == null) {
+            return Response.text(404, "Product not found");
+        }
+        return Response.html(layout(request.session, "Automation Exercise - Product Details", productDetailPage(product)));
+    }
+
+    private Response addToCart(Request request, String argument) {
+        Product product = Catalog.find(parseId(argument));
+        if (product == null) {
+            return Response.text(404, "Product not found");
+        }
+        int quantity = Math.max(1, parseId(request.query.getOrDefault("quantity", "1")));
+        request.session.addToCart(product.id, quantity);
+        return Response.json("{\"product_id\": " + product.id + ", \"cart_items\": " + request.session.cartSize() + "}");
+    }
+
+    private Response login(Request request) {
+        String email = request.form.getOrDefault("email", "").trim();
+        String password = request.form.getOrDefault("password", "");
+        if (email.isEmpty() || password.isEmpty()) {
+            return Response.html(layout(request.session, "Automation Exercise - Signup / Login",
+                    loginPage("Your email or password is incorrect!")));
+        }
+        // Unknown emails are registered on first login, so any configured account works
+        Account account = accounts.computeIfAbsent(email.toLowerCase(), k -> new Account(nameFromEmail(email), email, password));
+        if (!account.password.equals(password)) {
+            return Response.html(layout(request.session, "Automation Exercise - Signup / Login",
+                    loginPage("Your email or password is incorrect!")));
+        }
+        request.session.user = account;
+        return Response.redirect("/");
+    }
+
+    /**
+     * POST /api/createAccount - like the real site's API, the outcome is in responseCode, not the HTTP status
+     */
+    private Response createAccount(Request request) {
+        String email = request.form.getOrDefault("email", "").trim();
+        String password = request.form.getOrDefault("password", "");
+        if (email.isEmpty() || password.isEmpty()) {
+            return Response.json("{\"responseCode\": 400, \"message\": \"Bad request, email or password parameter is missing.\"}");
+        }
+        String name = request.form.getOrDefault("name", "").trim();
+        Account account = new Account(name.isEmpty() ? nameFromEmail(email) : name, email, password);
+        if (accounts.putIfAbsent(email.toLowerCase(), account) != null) {
+            return Response.json("{\"responseCode\": 400, \"message\": \"Email already exists!\"}");
+        }
+        return Response.json("{\"responseCode\": 201, \"message\": \"User created!\"}");
+    }
+
+    private Response pay(Request request) {
+        String[] fields = {"name_on_card", "card_number", "cvc", "expiry_month", "expiry_year"};
+        for (String field : fields) {
+            if (request.form.getOrDefault(field, "").trim().isEmpty()) {
+                return Response.html(layout(request.session, "Automation Exercise - Payment",
+                        paymentPage("Please fill in all card details.")));
+            }
+        }
+        Order order = new Order(orderIds.incrementAndGet(), request.session.id,
+                request.form.get("name_on_card").trim(), request.session.cartTotal());
+        orders.put(order.id, order);
+        request.session.clearCart();
+        return Response.redirect("/payment_done/" + order.id);
+    }
+
+    private Response paymentDone(Request request, String argument) {
+        Order order = orders.get(parseId(argument));
+        if (order == null || !order.sessionId.equals(request.session.id)) {
+            return Response.redirect("/");
+        }
+        return Response.html(layout(request.session, "Automation Exercise - Order Placed", orderPlacedPage(order)));
+    }
+
+    private Response invoice(Request request, String argument) {
+        Order order = orders.get(parseId(argument));
+        if (order == null || !order.sessionId.equals(request.session.id)) {
+            return Response.text(404, "Invoice not found");
+        }
+        Response response = Response.text(200,
+                "Hi " + order.customerName + ", Your total purchase amount is " + order.total + ". Thank you");
+        response.headers.put("Content-Disposition", "attachment; filename=\"invoice.txt\"");
+        return response;
+    }
+
+    private Response picture(String argument) {
+        Product product = Catalog.find(parseId(argument));
+        if (product == null) {
+            return Response.text(404, "Picture not found");
+        }
+        String hue = String.valueOf(product.id * 37 % 360);
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"200\" height=\"200\">"
+                + "<rect width=\"200\" height=\"200\" fill=\"hsl(" + hue + ",60%,80%)\"/>"
+                + "<text x=\"100\" y=\"110\" font-size=\"32\" text-anchor=\"middle\">#" + product.id + "</text></svg>";
+        Response response = new Response(200, "image/svg+xml", svg.getBytes(StandardCharsets.UTF_8));
+        response.headers.put("Cache-Control", "public, max-age=86400");
+        return response;
+    }
+
+    // ---------------------------------------------------------------------
+    // Pages
+    // ---------------------------------------------------------------------
+
+    private String layout(Session session, String title, String content) {
+        Account user = session.user;
+        String account = user == null
+                ? "<li><a href=\"/login\"><i class=\"fa fa-lock\"></i> Signup / Login</a></li>"
+                : "<li><a href=\"/logout\"><i class=\"fa fa-lock\"></i> Logout</a></li>";
+        String loggedIn = user == null ? ""
+                : "<li><a><i class=\"fa fa-user\"></i> Logged in as <b>" + esc(user.name) + "</b></a></li>";
+        return "<!DOCTYPE html><html lang=\"en\"><head><meta charset=\"utf-8\"><title>" + esc(title) + "</title>"
+                + "<style>" + STYLE + "</style></head><body><a id=\"top\"></a>"
+                + "<header id=\"header\"><div class=\"shop-menu\"><ul class=\"nav navbar-nav\">"
+                + "<li><a href=\"/\"><i class=\"fa fa-home\"></i> Home</a></li>"
+                + "<li><a href=\"/products\"><i class=\"fa fa-card_travel\"></i> Products</a></li>"
+                + "<li><a href=\"/view_cart\"><i class=\"fa fa-shopping-cart\"></i> Cart</a></li>"
+                + account
+                + "<li><a href=\"/test_cases\"><i class=\"fa fa-list\"></i> Test Cases</a></li>"
+                + loggedIn
+                + "</ul></div></header>"
+                + content
+                + "<footer id=\"footer\"><div class=\"single-widget\"><h2>Subscription</h2>"
+                + "<form class=\"searchform\"><input type=\"email\" id=\"susbscribe_email\" placeholder=\"Your email address\">"
+                + "<button type=\"button\" id=\"subscribe\">Subscribe</button></form></div></footer>"
+                + "<a id=\"scrollUp\" href=\"#top\">&uarr;</a>"
+                + "<div class=\"modal\" id=\"cartModal\"><div class=\"modal-content\"><h4>Added!</h4>"
+                + "<p>Your product has been added to cart.</p><p><a href=\"/view_cart\"><u>View Cart</u></a></p>"
+                + "<button type=\"button\" class=\"btn close-modal\">Continue Shopping</button></div></div>"
+                + "<script>" + SCRIPT + "</script></body></html>";
+    }
+
+    private String homePage() {
+        return "<section id=\"slider\"><div id=\"slider-carousel\" class=\"carousel slide\"><div class=\"carousel-inner\">"
+                + "<div class=\"item active\"><h1>AutomationExercise</h1>"
+                + "<h2>Full-Fledged practice website for Automation Engineers</h2>"
+                + "<p>All QA engineers can use this website for automation practice and API testing.</p></div>"
+                + "</div></div></section>"
+                + "<section class=\"content\">" + sidebar()
+                + "<div class=\"features_items\"><h2 class=\"title text-center\">Features Items</h2>"
+                + productGrid(Catalog.PRODUCTS) + "</div></section>";
+    }
+
+    private String productsPage(String search) {
+        List<Product> products = Catalog.PRODUCTS;
+        String title = "All Products";
+        if (search != null && !search.trim().isEmpty()) {
+            products = Catalog.search(search.trim());
+            title = "Searched Products";
+        }
+        return "<section id=\"advertisement\"><h2>Special offer</h2></section>"
+                + "<form action=\"/products\" method=\"get\" class=\"search\">"
+                + "<input type=\"text\" id=\"search_product\" name=\"search\" placeholder=\"Search Product\">"
+                + "<button type=\"submit\" id=\"submit_search\" class=\"btn\">Search</button></form>"
+                + "<section class=\"content\">" + sidebar()
+                + "<div class=\"features_items\"><h2 class=\"title text-center\">" + title + "</h2>"
+                + productGrid(products) + "</div></section>";
+    }
+
+    private String brandPage(String brand) {
+        List<Product> products = Catalog.byBrand(brand);
+        return "<section class=\"content\">" + sidebar()
+                + "<div class=\"features_items\"><h2 class=\"title text-center\">Brand - " + esc(brand) + " Products</h2>"
+                + productGrid(products) + "</div></section>";
+    }
+
+    private String sidebar() {
+        StringBuilder html = new StringBuilder("<div class=\"left-sidebar\"><h2>Category</h2>"
+                + "<div class=\"category-products\"><p>Women</p><p>Men</p><p>Kids</p></div>"
+                + "<div class=\"brands_products\"><h2>Brands</h2><div class=\"brands-name\"><ul class=\"nav nav-pills nav-stacked\">");
+        for (String brand : Catalog.BRANDS) {
+            html.append("<li><a href=\"/brand_products/").append(esc(brand.replace(" ", "%20"))).append("\">")
+                    .append("<span class=\"pull-right\">(").append(Catalog.byBrand(brand).size()).append(")</span>")
+                    .append(esc(brand)).append("</a></li>");
+        }
+        return html.append("</ul></div></div></div>").toString();
+    }
+
+    private String productGrid(List<Product> products) {
+        StringBuilder html = new StringBuilder();
+        for (Product product : products) {
+            html.append("<div class=\"product-image-wrapper\"><div class=\"single-products\"><div class=\"productinfo text-center\">")
+                    .append("<img src=\"/get_product_picture/").append(product.id)
+                    .append("\" alt=\"ecommerce website products\" width=\"160\" height=\"160\">")
+                    .append("<h2>Rs. ").append(product.price).append("</h2><p>").append(esc(product.name)).append("</p>")
+                    .append("<a href=\"#\" data-product-id=\"").append(product.id)
+                    .append("\" class=\"btn btn-default add-to-cart\">Add to cart</a></div></div>")
+                    .append("<div class=\"choose\"><a href=\"/product_details/").append(product.id)
+                    .append("\">View Product</a></div></div>");
+        }
+        return html.toString();
+    }
+
+    private String productDetailPage(Product product) {
+        return "<section class=\"content\"><div class=\"product-details\">"
+                + "<div class=\"view-product\"><img src=\"/get_product_picture/" + product.id
+                + "\" alt=\"ecommerce website products\" width=\"300\" height=\"300\"></div>"
+                + "<div class=\"product-information\"><h2>" + esc(product.name) + "</h2>"
+                + "<p>Category: " + esc(product.category) + "</p>"
+                + "<span><span>Rs. " + product.price + "</span> <label>Quantity:</label>"
+                + "<input type=\"number\" id=\"quantity\" name=\"quantity\" value=\"1\">"
+                + "<button type=\"button\" class=\"btn btn-default cart add-to-cart\" data-product-id=\"" + product.id
+                + "\">Add to cart</button></span>"
+                + "<p><b>Availability:</b> In Stock</p><p><b>Condition:</b> New</p>"
+                + "<p><b>Brand:</b> " + esc(product.brand) + "</p></div></div>"
+                + "<div class=\"category-tab\"><ul class=\"nav nav-tabs\"><li class=\"active\">"
+                + "<a href=\"#reviews\">Write Your Review</a></li></ul>"
+                + "<div id=\"reviews\"><form id=\"review-form\" action=\"/product_review\" method=\"post\">"
+                + "<input type=\"hidden\" name=\"product_id\" value=\"" + product.id + "\">"
+                + "<input type=\"text\" id=\"name\" name=\"name\" placeholder=\"Your Name\">"
+                + "<input type=\"email\" id=\"email\" name=\"email\" placeholder=\"Email Address\">"
+                + "<textarea id=\"review\" name=\"review\" placeholder=\"Add Review Here!\"></textarea>"
+                + "<button type=\"submit\" id=\"button-review\" class=\"btn btn-default\">Submit</button></form>"
+                + "<div id=\"review-section\" class=\"hidden\"><div class=\"alert-success alert\">"
+                + "<span>Thank you for your review.</span></div></div></div></div></section>";
+    }
+
+    private String cartPage(Session session) {
+        Map<Integer, Integer> cart = session.cartSnapshot();
+        if (cart.isEmpty()) {
+            return "<section id=\"cart_items\"><span id=\"empty_cart\"><p class=\"text-center\"><b>Cart is empty!</b> "
+                    + "Click <a href=\"/products\"><u>here</u></a> to buy products.</p></span></section>";
+        }
+        String checkout = session.user == null
+                ? "<a href=\"#\" class=\"btn btn-default check_out\" data-modal=\"checkoutModal\">Proceed To Checkout</a>"
+                : "<a href=\"/checkout\" class=\"btn btn-default check_out\">Proceed To Checkout</a>";
+        return "<section id=\"cart_items\"><div class=\"table-responsive cart_info\" id=\"cart_info\">"
+                + cartTable(cart, true) + "</div></section>"
+                + "<section id=\"do_action\">" + checkout + "</section>"
+                + "<div class=\"modal\" id=\"checkoutModal\"><div class=\"modal-content\"><h4>Checkout</h4>"
+                + "<p>Register / Login account to proceed on checkout.</p>"
+                + "<p><a href=\"/login\"><u>Register / Login</u></a></p>"
+                + "<button type=\"button\" class=\"btn close-modal\">Continue On Cart</button></div></div>";
+    }
+
+    private String cartTable(Map<Integer, Integer> cart, boolean deletable) {
+        StringBuilder html = new StringBuilder("<table class=\"table table-condensed\" id=\"cart_info_table\"><thead><tr>"
+                + "<td>Item</td><td>Description</td><td>Price</td><td>Quantity</td><td>Total</td><td></td></tr></thead><tbody>");
+        for (Map.Entry<Integer, Integer> line : cart.entrySet()) {
+            Product product = Catalog.find(line.getKey());
+            html.append("<tr id=\"product-").append(product.id).append("\">")
+                    .append("<td class=\"cart_product\"><img src=\"/get_product_picture/").append(product.id)
+                    .append("\" alt=\"Product Image\" width=\"80\" height=\"80\"></td>")
+                    .append("<td class=\"cart_description\"><h4><a href=\"/product_details/").append(product.id).append("\">")
+                    .append(esc(product.name)).append("</a></h4><p>").append(esc(product.category)).append("</p></td>")
+                    .append("<td class=\"cart_price\"><p>Rs. ").append(product.price).append("</p></td>")
+                    .append("<td class=\"cart_quantity\"><button class=\"disabled\">").append(line.getValue()).append("</button></td>")
+                    .append("<td class=\"cart_total\"><p class=\"cart_total_price\">Rs. ")
+                    .append(product.price * line.getValue()).append("</p></td><td class=\"cart_delete\">");
+            if (deletable) {
+                html.append("<a class=\"cart_quantity_delete\" href=\"/delete_cart/").append(product.id).append("\">x</a>");
+            }
+            html.append("</td></tr>");
+        }
+        return html.append("</tbody></table>").toString();
+    }
+
+    private String checkoutPage(Session session) {
+        Account user = session.user;
+        String address = "<li class=\"address_firstname address_lastname\">" + esc(user.name) + "</li>"
+                + "<li class=\"address_address1 address_address2\">1 Stand-In Street</li>"
+                + "<li class=\"address_city address_state_name address_postcode\">Localhost 10000</li>"
+                + "<li class=\"address_country_name\">India</li>";
+        return "<section id=\"cart_items\"><div class=\"step-one\"><h2 class=\"heading\">Address Details</h2></div>"
+                + "<div class=\"checkout-information\">"
+                + "<ul id=\"address_delivery\" class=\"address item box\"><li class=\"address_title\">"
+                + "<h3 class=\"page-subheading\">Your delivery address</h3></li>" + address + "</ul>"
+                + "<ul id=\"address_invoice\" class=\"address alternate_item box invoice\"><li class=\"address_title\">"
+                + "<h3 class=\"page-subheading\">Your billing address</h3></li>" + address + "</ul></div>"
+                + "<div class=\"step-one\"><h2 class=\"heading\">Review Your Order</h2></div>"
+                + "<div id=\"cart_info\">" + cartTable(session.cartSnapshot(), false) + "</div>"
+                + "<p class=\"cart_total_price\">Total Amount: Rs. " + session.cartTotal() + "</p>"
+                + "<a href=\"/payment\" class=\"btn btn-default check_out\">Place Order</a></section>";
+    }
+
+    private String paymentPage(String error) {
+        return "<section id=\"cart_items\"><div class=\"step-one\"><h2 class=\"heading\">Payment</h2></div>"
+                + "<div class=\"payment-information\"><form id=\"payment-form\" action=\"/payment\" method=\"post\">"
+                + "<label>Name on Card</label><input class=\"form-control\" data-qa=\"name-on-card\" name=\"name_on_card\" type=\"text\">"
+                + "<label>Card Number</label><input class=\"form-control card-number\" data-qa=\"card-number\" name=\"card_number\" type=\"text\">"
+                + "<label>CVC</label><input class=\"form-control card-cvc\" data-qa=\"cvc\" name=\"cvc\" placeholder=\"ex. 311\" type=\"text\">"
+                + "<label>Expiration</label><input class=\"form-control card-expiry-month\" data-qa=\"expiry-month\" name=\"expiry_month\" placeholder=\"MM\" type=\"text\">"
+                + "<input class=\"form-control card-expiry-year\" data-qa=\"expiry-year\" name=\"expiry_year\" placeholder=\"YYYY\" type=\"text\">"
+                + (error.isEmpty() ? "" : "<p class=\"error\">" + esc(error) + "</p>")
+                + "<button data-qa=\"pay-button\" id=\"submit\" type=\"submit\" class=\"form-control btn btn-primary submit-button\">"
+                + "Pay and Confirm Order</button></form></div></section>";
+    }
+
+    private String orderPlacedPage(Order order) {
+        return "<section id=\"form\"><h2 class=\"title text-center\" data-qa=\"order-placed\"><b>Order Placed!</b></h2>"
+                + "<p>Congratulations! Your order has been confirmed!</p>"
+                + "<a href=\"/download_invoice/" + order.id + "\" class=\"btn btn-default check_out\">Download Invoice</a>"
+                + "<a data-qa=\"continue-button\" class=\"btn btn-primary\" href=\"/\">Continue</a></section>";
+    }
+
+    private String loginPage(String error) {
+        return "<section id=\"form\"><div class=\"login-form\"><h2>Login to your account</h2>"
+                + "<form action=\"/login\" method=\"post\">"
+                + "<input type=\"email\" data-qa=\"login-email\" name=\"email\" placeholder=\"Email Address\">"
+                + "<input type=\"password\" data-qa=\"login-password\" name=\"password\" placeholder=\"Password\">"
+                + (error.isEmpty() ? "" : "<p class=\"error\">" + esc(error) + "</p>")
+                + "<button type=\"submit\" data-qa=\"login-button\" class=\"btn btn-default\">Login</button></form></div></section>";
+    }
+
+    private String testCasesPage() {
+        StringBuilder html = new StringBuilder("<section><div class=\"panel-group\">"
+                + "<h2 class=\"title text-center\"><b>Test Cases</b></h2>");
+        int number = 1;
+        for (Map.Entry<String, List<String>> testCase : Catalog.TEST_CASES.entrySet()) {
+            html.append("<div class=\"panel panel-default\"><div class=\"panel-heading\"><h4 class=\"panel-title\">")
+                    .append("<a data-toggle=\"collapse\" href=\"#collapse").append(number).append("\"><u>Test Case ")
+                    .append(number).append(": ").append(esc(testCase.getKey())).append("</u></a></h4></div>")
+                    .append("<div id=\"collapse").append(number).append("\" class=\"panel-collapse collapse\"><ul class=\"list-group\">");
+            int step = 1;
+            for (String text : testCase.getValue()) {
+                html.append("<li class=\"list-group-item\">").append(step++).append(". ").append(esc(text)).append("</li>");
+            }
+            html.append("</ul></div></div>");
+            number++;
+        }
+        return html.append("</div></section>").toString();
+    }
+
+    private static final String STYLE = "body{font-family:sans-serif;margin:0}"
+            + ".nav{list-style:none;margin:0;padding:0}.navbar-nav li{display:inline-block;margin:10px}"
+            + ".fa{display:inline-block;width:12px;height:12px;background:#fe980f}"
+            + "#slider-carousel{padding:40px;background:#f0f0e9}.content{display:flex}"
+            + ".left-sidebar{width:220px;padding:10px}.features_items{flex:1}"
+            + ".product-image-wrapper{display:inline-block;width:200px;margin:10px;vertical-align:top;text-align:center}"
+            + ".btn{display:inline-block;padding:6px 12px;border:1px solid #ccc;background:#fe980f;color:#fff}"
+            + ".modal{display:none;position:fixed;top:30px;left:0;right:0;z-index:10}"
+            + ".modal-content{width:300px;margin:0 auto;padding:20px;background:#fff;border:1px solid #999}"
+            + ".collapse,.hidden{display:none}.error{color:red}"
+            + "#scrollUp{position:fixed;bottom:10px;right:10px;padding:8px;background:#fe980f;color:#fff}"
+            + "#footer{padding:40px;background:#f0f0e9}";
+
+    private static final String SCRIPT = "function show(id,on){document.getElementById(id).style.display=on?'block':'none';}"
+            + "document.addEventListener('click',function(e){"
+            + "var add=e.target.closest('.add-to-cart');"
+            + "if(add){e.preventDefault();var q=document.getElementById('quantity');"
+            + "fetch('/add_to_cart/'+add.getAttribute('data-product-id')+(q?'?quantity='+q.value:''))"
+            + ".then(function(){show('cartModal',true);});return;}"
+            + "var open=e.target.closest('[data-modal]');"
+            + "if(open){e.preventDefault();show(open.getAttribute('data-modal'),true);return;}"
+            + "var close=e.target.closest('.close-modal');"
+            + "if(close){close.closest('.modal').style.display='none';return;}"
+            + "var toggle=e.target.closest('[data-toggle=collapse]');"
+            + "if(toggle){e.preventDefault();var p=document.querySelector(toggle.getAttribute('href'));"
+            + "p.style.display=p.style.display==='block'?'none':'block';}});"
+            + "var review=document.getElementById('review-form');"
+            + "if(review){review.addEventListener('submit',function(e){e.preventDefault();"
+            + "fetch('/product_review',{method:'POST',body:new URLSearchParams(new FormData(review))})"
+            + ".then(function(){review.reset();show('review-section',true);});});}";
+
+    // ---------------------------------------------------------------------
+    // Helpers
+    // ---------------------------------------------------------------------
+
+    private static int parseId(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String nameFromEmail(String email) {
+        String local = email.contains("@") ? email.substring(0, email.indexOf('@')) : email;
+        return local.isEmpty() ? "Tester" : Character.toUpperCase(local.charAt(0)) + local.substring(1);
+    }
+
+    private static String esc(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+        for (String pair : encoded.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals >= 0 ? pair.substring(0, equals) : pair;
+            String value = equals >= 0 ? pair.substring(equals + 1) : "";
+            values.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    /**
+     * Request - Parsed exchange plus the browser session it belongs to
+     */
+    private class Request {
+
+        final String method;
+        final String path;
+        final Map<String, String> query;
+        final Map<String, String> form;
+        final Session session;
+        final boolean newSession;
+
+        Request(HttpExchange exchange) throws IOException {
+            this.method = exchange.getRequestMethod();
+            this.path = exchange.getRequestURI().getPath();
+            this.query = parseForm(exchange.getRequestURI().getRawQuery());
+            try (InputStream body = exchange.getRequestBody()) {
+                this.form = method.equals("POST")
+                        ? parseForm(new String(body.readAllBytes(), StandardCharsets.UTF_8))
+                        : Collections.emptyMap();
+            }
+
+            Session existing = null;
+            String cookies = exchange.getRequestHeaders().getFirst("Cookie");
+            if (cookies != null) {
+                for (String cookie : cookies.split(";")) {
+                    String[] pair = cookie.trim().split("=", 2);
+                    if (pair.length == 2 && pair[0].equals(SESSION_COOKIE)) {
+                        existing = sessions.get(pair[1]);
+                    }
+                }
+            }
+            if (existing == null) {
+                existing = new Session(UUID.randomUUID().toString());
+                sessions.put(existing.id, existing);
+                this.newSession = true;
+            } else {
+                this.newSession = false;
+            }
+            this.session = existing;
+        }
+
+        String routeName() {
+            int next = path.indexOf('/', 1);
+            return method + " " + (next > 0 ? path.substring(0, next) : path);
+        }
+    }
+
+    /**
+     * Response - Status, content type, headers and body of one reply
+     */
+    private static class Response {
+
+        final int status;
+        final String contentType;
+        final byte[] body;
+        final Map<String, String> headers = new LinkedHashMap<>();
+
+        Response(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        static Response html(String html) {
+            return new Response(200, "text/html; charset=utf-8", html.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Response json(String json) {
+            return new Response(200, "application/json", json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Response text(int status, String text) {
+            return new Response(status, "text/plain; charset=utf-8", text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Response redirect(String location) {
+            Response response = new Response(302, "text/plain", new byte[0]);
+            response.headers.put("Location", location);
+            return response;
+        }
+    }
+
+    /**
+     * Session - Cart and login state of one browser (cookie)
+     */
+    private static class Session {
+
+        final String id;
+        volatile Account user;
+        private final Map<Integer, Integer> cart = new LinkedHashMap<>();
+
+        Session(String id) {
+            this.id = id;
+        }
+
+        synchronized void addToCart(int productId, int quantity) {
+            cart.merge(productId, quantity, Integer::sum);
+        }
+
+        synchronized void removeFromCart(int productId) {
+            cart.remove(productId);
+        }
+
+        synchronized void clearCart() {
+            cart.clear();
+        }
+
+        synchronized int cartSize() {
+            return cart.size();
+        }
+
+        synchronized Map<Integer, Integer> cartSnapshot() {
+            return new LinkedHashMap<>(cart);
+        }
+
+        synchronized int cartTotal() {
+            int total = 0;
+            for (Map.Entry<Integer, Integer> line : cart.entrySet()) {
+                total += Catalog.find(line.getKey()).price * line.getValue();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Account - Registered user
+     */
+    private static class Account {
+
+        final String name;
+        final String email;
+        final String password;
+
+        Account(String name, String email, String password) {
+            this.name = name;
+            this.email = email;
+            this.password = password;
+        }
+    }
+
+    /**
+     * Order - Confirmed payment, downloadable as an invoice by the session that placed it
+     */
+    private static class Order {
+
+        final int id;
+        final String sessionId;
+        final String customerName;
+        final int total;
+
+        Order(int id, String sessionId, String customerName, int total) {
+            this.id = id;
+            this.sessionId = sessionId;
+            this.customerName = customerName;
+            this.total = total;
+        }
+    }
+
+    /**
+     * Route Stats - Request count and server time of one route
+     */
+    private static class RouteStats {
+
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * Product - Catalog entry
+     */
+    private static class Product {
+
+        final int id;
+        final String name;
+        final int price;
+        final String category;
+        final String brand;
+
+        Product(int id, String name, int price, String category, String brand) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.category = category;
+            this.brand = brand;
+        }
+    }
+
+    /**
+     * Catalog - Products, brands and test cases mirrored from the real site
+     * (ids 3 and 19 are the ones ProductsPage adds to the cart)
+     */
+    private static final class Catalog {
+
+        static final List<String> BRANDS = Arrays.asList(
+                "Polo", "H&M", "Madame", "Mast & Harbour", "Babyhug", "Allen Solly Junior", "Kookie Kids", "Biba");
+
+        static final List<Product> PRODUCTS = Arrays.asList(
+                new Product(1, "Blue Top", 500, "Women > Tops", "Polo"),
+                new Product(2, "Men Tshirt", 400, "Men > Tshirts", "H&M"),
+                new Product(3, "Sleeveless Dress", 1000, "Women > Dress", "Madame"),
+                new Product(4, "Stylish Dress", 1500, "Women > Dress", "Madame"),
+                new Product(5, "Winter Top", 600, "Women > Tops", "Mast & Harbour"),
+                new Product(6, "Summer White Top", 400, "Women > Tops", "H&M"),
+                new Product(7, "Madame Top For Women", 1000, "Women > Tops", "Madame"),
+                new Product(8, "Fancy Green Top", 700, "Women > Tops", "Polo"),
+                new Product(11, "Blue Cotton Indie Mickey Dress", 600, "Kids > Dress", "Babyhug"),
+                new Product(12, "Long Maxi Tulle Fancy Dress Up Outfits - Pink", 1400, "Kids > Dress", "Allen Solly Junior"),
+                new Product(13, "Sleeveless Unicorn Patch Gown - Pink", 1050, "Kids > Dress", "Kookie Kids"),
+                new Product(14, "Cotton Mull Embroidered Dress", 1100, "Kids > Dress", "Babyhug"),
+                new Product(18, "Little Girls Mr. Panda Shirt", 543, "Kids > Tops & Shirts", "Kookie Kids"),
+                new Product(19, "Sleeveless Unicorn Print Fit & Flare Net Dress - Multi", 1100, "Kids > Dress", "Allen Solly Junior"),
+                new Product(20, "Cotton Silk Hand Block Print Saree", 1600, "Women > Saree", "Biba"),
+                new Product(21, "Rust Red Linen Saree", 3500, "Women > Saree", "Biba"),
+                new Product(23, "Soft Stretch Jeans", 799, "Men > Jeans", "Polo"),
+                new Product(24, "Colour Blocked Shirt - Sky Blue", 1000, "Men > Tshirts", "H&M"),
+                new Product(28, "Pure Cotton V-Neck T-Shirt", 1299, "Men > Tshirts", "H&M"),
+                new Product(29, "Green Side Placket Detail T-Shirt", 1000, "Men > Tshirts", "Polo"));
+
+        static final Map<String, List<String>> TEST_CASES = new LinkedHashMap<>();
+
+        static {
+            TEST_CASES.put("Register User", Arrays.asList("Launch browser", "Navigate to url 'http://automationexercise.com'",
+                    "Click on 'Signup / Login' button", "Fill details and click 'Create Account'", "Verify 'ACCOUNT CREATED!'"));
+            TEST_CASES.put("Login User with correct email and password", Arrays.asList("Launch browser",
+                    "Click on 'Signup / Login' button", "Enter correct email address and password", "Click 'login' button",
+                    "Verify that 'Logged in as username' is visible"));
+            TEST_CASES.put("Logout User", Arrays.asList("Launch browser", "Login with correct credentials",
+                    "Click 'Logout' button", "Verify that user is navigated to login page"));
+            TEST_CASES.put("Search Product", Arrays.asList("Launch browser", "Click on 'Products' button",
+                    "Enter product name in search input and click search button", "Verify 'SEARCHED PRODUCTS' is visible"));
+            TEST_CASES.put("Add Products in Cart", Arrays.asList("Launch browser", "Click 'Products' button",
+                    "Hover over first product and click 'Add to cart'", "Click 'Continue Shopping' button",
+                    "Click 'View Cart' button", "Verify both products are added to Cart"));
+            TEST_CASES.put("Place Order: Login before Checkout", Arrays.asList("Launch browser", "Login with correct credentials",
+                    "Add products to cart", "Click 'Proceed To Checkout'", "Enter payment details and click 'Pay and Confirm Order'",
+                    "Verify success message 'Congratulations! Your order has been confirmed!'"));
+            TEST_CASES.put("Download Invoice after purchase order", Arrays.asList("Launch browser", "Place an order",
+                    "Click 'Download Invoice' button and verify invoice is downloaded successfully"));
+            TEST_CASES.put("Verify Scroll Up using 'Arrow' button and Scroll Down functionality", Arrays.asList(
+                    "Launch browser", "Scroll down page to bottom", "Verify 'SUBSCRIPTION' is visible",
+                    "Click on arrow at bottom right side to move upward",
+                    "Verify that 'Full-Fledged practice website for Automation Engineers' text is visible on screen"));
+        }
+
+        private static final Map<Integer, Product> BY_ID = new HashMap<>();
+
+        static {
+            for (Product product : PRODUCTS) {
+                BY_ID.put(product.id, product);
+            }
+        }
+
+        static Product find(int id) {
+            return BY_ID.get(id);
+        }
+
+        static List<Product> byBrand(String brand) {
+            List<Product> result = new ArrayList<>();
+            for (Product product : PRODUCTS) {
+                if (product.brand.equalsIgnoreCase(brand)) {
+                    result.add(product);
+                }
+            }
+            return result;
+        }
+
+        static List<Product> search(String term) {
+            String needle = term.toLowerCase();
+            List<Product> result = new ArrayList<>();
+            for (Product product : PRODUCTS) {
+                if (product.name.toLowerCase().contains(needle) || product.category.toLowerCase().contains(needle)
+                        || product.brand.toLowerCase().contains(needle)) {
+                    result.add(product);
+                }
+            }
+            return result;
+        }
+    }
+}
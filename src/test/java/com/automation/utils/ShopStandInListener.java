@@ -0,0 +1,25 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Shop Stand-In Listener - Starts the embedded shop before the suite and points
+ * baseUrl at it, then stops it (printing its latency report) when the suite finishes
+ */
+public class ShopStandInListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ShopStandIn.isEnabled()) {
+            System.setProperty("baseUrl", ShopStandIn.getInstance().start());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (ShopStandIn.isEnabled()) {
+            ShopStandIn.getInstance().stop();
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Step Timeline - Scenario steps of a test with their timing
+ * Each step records its start and end, the WebDriver commands issued (count and time),
+ * time spent in explicit waits and network activity (requests, bytes and the time at least
+ * one request was in flight, from CDP Network events on Chrome/Edge).
+ * Every test writes a JSON timeline and an HTML waterfall to timeline.dir; step names are
+ * the keys for comparing runs: main(baseline.json, current.json) prints the per-step change.
+ */
+public final class StepTimeline {
+
+    private static final ThreadLocal<Timeline> current = new ThreadLocal<>();
+    private static final Map<WebDriver, NetworkMeter> meters = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, Integer> runs = new HashMap<>();
+
+    private StepTimeline() {
+    }
+
+    /**
+     * Check if timelines are enabled in config.properties
+     * @return true if tests record step timelines
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getInstance().getProperty("timeline.enabled", "true"));
+    }
+
+    /**
+     * Start the timeline of a test on the calling thread
+     * @param driver WebDriver the test uses (network activity is read from it)
+     * @param testName test name, used for the file names
+     */
+    public static void begin(WebDriver driver, String testName) {
+        current.set(new Timeline(testName, meters.computeIfAbsent(driver, NetworkMeter::new)));
+    }
+
+    /**
+     * End the running step and start the next one
+     * @param name step name, e.g. "Step 5: Search for 'Sleeveless' Product"
+     */
+    public static void step(String name) {
+        System.out.println("\n--- " + name + " ---");
+        Timeline timeline = current.get();
+        if (timeline != null) {
+            timeline.start(name);
+        }
+    }
+
+    /**
+     * Run a block as one step
+     * @param name step name
+     * @param body step body
+     */
+    public static void step(String name, Runnable body) {
+        step(name);
+        try {
+            body.run();
+        } finally {
+            Timeline timeline = current.get();
+            if (timeline != null) {
+                timeline.finishStep();
+            }
+        }
+    }
+
+    /**
+     * Count a WebDriver command or wait towards the running step
+     * @param command command name ("wait.*" counts as wait time)
+     * @param nanos duration
+     */
+    static void onCommand(String command, long nanos) {
+        Timeline timeline = current.get();
+        if (timeline != null && timeline.running != null) {
+            if (command.startsWith("wait.")) {
+                timeline.running.waitNanos += nanos;
+            } else {
+                timeline.running.commands++;
+                timeline.running.commandNanos += nanos;
+            }
+        }
+    }
+
+    /**
+     * End the test's timeline and write its JSON and HTML files
+     * @param status test status, e.g. PASSED or FAILED
+     */
+    public static void end(String status) {
+        Timeline timeline = current.get();
+        current.remove();
+        if (timeline == null || timeline.steps.isEmpty() && timeline.running == null) {
+            return;
+        }
+        timeline.finishStep();
+        String fileName;
+        synchronized (runs) {
+            int run = runs.merge(timeline.testName, 1, Integer::sum);
+            fileName = timeline.testName + (run > 1 ? "-" + run : "");
+        }
+        Path dir = Paths.get(ConfigReader.getInstance().getProperty("timeline.dir", "target/timeline"));
+        try {
+            Files.createDirectories(dir);
+            Map<String, Object> json = timeline.toJson(status);
+            Files.write(dir.resolve(fileName + ".json"), new Json().toJson(json).getBytes(StandardCharsets.UTF_8));
+            Files.write(dir.resolve(fileName + ".html"), waterfall(json).getBytes(StandardCharsets.UTF_8));
+            System.out.println("Step timeline: " + dir.resolve(fileName + ".html"));
+        } catch (IOException e) {
+            System.out.println("Error writing step timeline: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compare two timelines of the same test step by step
+     * Usage: mvn test-compile exec:java -Dexec.classpathScope=test
+     *        -Dexec.mainClass=com.automation.utils.StepTimeline -Dexec.args="baseline.json current.json"
+     */
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: StepTimeline <baseline.json> <current.json>");
+            return;
+        }
+        Map<String, Object> baseline = new Json().toType(Files.readString(Paths.get(args[0])), Json.MAP_TYPE);
+        Map<String, Object> latest = new Json().toType(Files.readString(Paths.get(args[1])), Json.MAP_TYPE);
+        Map<String, Map<String, Object>> before = new LinkedHashMap<>();
+        for (Object step : (List<Object>) baseline.get("steps")) {
+            before.put((String) ((Map<String, Object>) step).get("name"), (Map<String, Object>) step);
+        }
+        System.out.println("=== " + latest.get("test") + ": " + args[0] + " -> " + args[1] + " ===");
+        for (Object item : (List<Object>) latest.get("steps")) {
+            Map<String, Object> step = (Map<String, Object>) item;
+            double now = ((Number) step.get("durationMillis")).doubleValue();
+            Map<String, Object> old = before.get(step.get("name"));
+            if (old == null) {
+                System.out.printf(Locale.ROOT, "%-55s %9.0f ms (new step)%n", step.get("name"), now);
+                continue;
+            }
+            double then = ((Number) old.get("durationMillis")).doubleValue();
+            System.out.printf(Locale.ROOT, "%-55s %9.0f ms -> %9.0f ms  %+8.0f ms%s%n", step.get("name"), then, now,
+                    now - then, then > 0 && now > then * 1.2 && now - then > 200 ? "  REGRESSED" : "");
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // HTML waterfall
+    // ---------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private static String waterfall(Map<String, Object> json) {
+        double total = Math.max(1, ((Number) json.get("totalMillis")).doubleValue());
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>").append(esc((String) json.get("test")))
+                .append("</title><style>")
+                .append("body{font:13px sans-serif;margin:20px}table{border-collapse:collapse;width:100%}")
+                .append("td,th{padding:3px 6px;border-bottom:1px solid #eee;text-align:right;white-space:nowrap}")
+                .append("td.name,th.name{text-align:left}td.bar{width:45%;text-align:left}")
+                .append(".track{position:relative;height:14px}.step{position:absolute;height:14px;background:#7aa7e0}")
+                .append(".wait{position:absolute;height:6px;bottom:0;background:#e0a040}")
+                .append(".net{position:absolute;height:4px;top:0;background:#5cb85c}")
+                .append("</style></head><body><h2>").append(esc((String) json.get("test"))).append("</h2><p>")
+                .append(esc((String) json.get("status"))).append(", ")
+                .append(String.format(Locale.ROOT, "%.0f", total)).append(" ms. Bar: step (blue), ")
+                .append("time in waits (orange), network busy time (green).</p><table><tr><th class=\"name\">Step</th>")
+                .append("<th>ms</th><th>commands</th><th>command ms</th><th>wait ms</th><th>requests</th><th>KB</th>")
+                .append("<th>network ms</th><th class=\"name\">Waterfall</th></tr>");
+        for (Object item : (List<Object>) json.get("steps")) {
+            Map<String, Object> step = (Map<String, Object>) item;
+            double start = ((Number) step.get("startMillis")).doubleValue();
+            double duration = ((Number) step.get("durationMillis")).doubleValue();
+            double left = start / total * 100;
+            double width = Math.max(0.2, duration / total * 100);
+            html.append("<tr><td class=\"name\">").append(esc((String) step.get("name"))).append("</td>")
+                    .append(cell(duration)).append("<td>").append(step.get("commands")).append("</td>")
+                    .append(cell(step.get("commandMillis"))).append(cell(step.get("waitMillis")))
+                    .append("<td>").append(step.get("requests")).append("</td>")
+                    .append(cell(((Number) step.get("bytes")).doubleValue() / 1024)).append(cell(step.get("networkMillis")))
+                    .append("<td class=\"bar\"><div class=\"track\">")
+                    .append(bar("step", left, width))
+                    .append(bar("wait", left, share(step.get("waitMillis"), duration) * width))
+                    .append(bar("net", left, share(step.get("networkMillis"), duration) * width))
+                    .append("</div></td></tr>");
+        }
+        return html.append("</table></body></html>").toString();
+    }
+
+    private static String bar(String kind, double left, double width) {
+        return String.format(Locale.ROOT, "<div class=\"%s\" style=\"left:%.2f%%;width:%.2f%%\"></div>", kind, left, width);
+    }
+
+    private static double share(Object millis, double duration) {
+        return duration <= 0 ? 0 : Math.min(1, ((Number) millis).doubleValue() / duration);
+    }
+
+    private static String cell(Object millis) {
+        return String.format(Locale.ROOT, "<td>%.0f</td>", ((Number) millis).doubleValue());
+    }
+
+    private static String esc(String text) {
+        return text == null ? "" : text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * Timeline - Steps of one test
+     */
+    private static class Timeline {
+
+        final String testName;
+        final NetworkMeter network;
+        final long startNanos = System.nanoTime();
+        final long startedAt = System.currentTimeMillis();
+        final List<Step> steps = new ArrayList<>();
+        Step running;
+
+        Timeline(String testName, NetworkMeter network) {
+            this.testName = testName;
+            this.network = network;
+        }
+
+        void start(String name) {
+            finishStep();
+            running = new Step(name, System.nanoTime(), network.snapshot());
+        }
+
+        void finishStep() {
+            if (running == null) {
+                return;
+            }
+            running.endNanos = System.nanoTime();
+            running.networkEnd = network.snapshot();
+            steps.add(running);
+            running = null;
+        }
+
+        Map<String, Object> toJson(String status) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("test", testName);
+            json.put("status", status);
+            json.put("startedAt", startedAt);
+            long end = steps.isEmpty() ? startNanos : steps.get(steps.size() - 1).endNanos;
+            json.put("totalMillis", millis(end - startNanos));
+            List<Map<String, Object>> list = new ArrayList<>();
+            for (Step step : steps) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("name", step.name);
+                item.put("startMillis", millis(step.startNanos - startNanos));
+                item.put("endMillis", millis(step.endNanos - startNanos));
+                item.put("durationMillis", millis(step.endNanos - step.startNanos));
+                item.put("commands", step.commands);
+                item.put("commandMillis", millis(step.commandNanos));
+                item.put("waitMillis", millis(step.waitNanos));
+                item.put("requests", step.networkEnd[0] - step.networkStart[0]);
+                item.put("bytes", step.networkEnd[1] - step.networkStart[1]);
+                item.put("networkMillis", millis(step.networkEnd[2] - step.networkStart[2]));
+                list.add(item);
+            }
+            json.put("steps", list);
+            return json;
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+
+    /**
+     * Step - One named step and what happened during it
+     */
+    private static class Step {
+
+        final String name;
+        final long startNanos;
+        final long[] networkStart;
+        long endNanos;
+        long[] networkEnd;
+        int commands;
+        long commandNanos;
+        long waitNanos;
+
+        Step(String name, long startNanos, long[] networkStart) {
+            this.name = name;
+            this.startNanos = startNanos;
+            this.networkStart = networkStart;
+        }
+    }
+
+    /**
+     * Network Meter - Requests, bytes and busy time of one browser, from CDP Network events
+     * Busy time is the time at least one request was in flight, so parallel requests are not double counted.
+     */
+    private static class NetworkMeter {
+
+        private final Map<String, Boolean> inFlight = new HashMap<>();
+        private long requests;
+        private long bytes;
+        private long busyNanos;
+        private long busySince;
+
+        NetworkMeter(WebDriver driver) {
+            if (driver instanceof HasDevTools) {
+                try {
+                    listen(((HasDevTools) driver).getDevTools());
+                } catch (Exception e) {
+                    System.out.println("Network timing unavailable: " + e.getMessage());
+                }
+            }
+        }
+
+        private void listen(DevTools devTools) {
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<Void>("Network.enable", new HashMap<>()));
+            devTools.addListener(new Event<Map<String, Object>>("Network.requestWillBeSent", input -> input.read(Json.MAP_TYPE)),
+                    event -> started((String) event.get("requestId")));
+            devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE)),
+                    event -> finished((String) event.get("requestId"), (Number) event.get("encodedDataLength")));
+            devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE)),
+                    event -> finished((String) event.get("requestId"), null));
+        }
+
+        synchronized void started(String requestId) {
+            // Redirects reuse the request id - still one request in flight
+            if (inFlight.put(requestId, Boolean.TRUE) == null) {
+                if (inFlight.size() == 1) {
+                    busySince = System.nanoTime();
+                }
+                requests++;
+            }
+        }
+
+        synchronized void finished(String requestId, Number encodedBytes) {
+            if (inFlight.remove(requestId) == null) {
+                return;
+            }
+            if (encodedBytes != null) {
+                bytes += encodedBytes.longValue();
+            }
+            if (inFlight.isEmpty()) {
+                busyNanos += System.nanoTime() - busySince;
+            }
+        }
+
+        /**
+         * @return requests, bytes and busy nanos so far (an open busy period counts up to now)
+         */
+        synchronized long[] snapshot() {
+            long busy = busyNanos + (inFlight.isEmpty() ? 0 : System.nanoTime() - busySince);
+            return new long[]{requests, bytes, busy};
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.automation.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Wait Latency Benchmark - Measures how late each wait engine notices an element
+ * The page inserts an element after a random delay and stamps Date.now(); the
+ * latency of one wait is the wall clock time between that stamp and the wait returning.
+ *
+ * Run: mvn test-compile exec:java -Dexec.classpathScope=test
+ *      -Dexec.mainClass=com.automation.utils.WaitLatencyBenchmark [-Dexec.args=50]
+ */
+public class WaitLatencyBenchmark {
+
+    private static final By TARGET = By.id("bench-target");
+    private static final String INSERT_LATER =
+            "document.body.innerHTML = ''; window.__inserted = 0;"
+            + "setTimeout(function () {"
+            + "  var el = document.createElement('div'); el.id = 'bench-target'; el.textContent = 'ready';"
+            + "  document.body.appendChild(el); window.__inserted = Date.now();"
+            + "}, arguments[0]);";
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        System.setProperty("browserPool.enabled", "false");
+
+        WebDriver driver = DriverManager.getDriver();
+        try {
+            driver.get("data:text/html,<html><body></body></html>");
+            List<Long> polling = run(driver, iterations, false);
+            List<Long> observer = run(driver, iterations, true);
+
+            System.out.println("=== Wait Latency (element inserted -> wait returned) ===");
+            print("polling", polling);
+            print("observer", observer);
+            System.out.printf("Gain per wait: %.1f ms (mean)%n", mean(polling) - mean(observer));
+        } finally {
+            DriverManager.quitDriver();
+        }
+    }
+
+    private static List<Long> run(WebDriver driver, int iterations, boolean observer) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Random random = new Random(42);
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            js.executeScript(INSERT_LATER, 100 + random.nextInt(400));
+            if (observer) {
+                ObserverWait.until(driver, TARGET, ObserverWait.Mode.VISIBLE, Duration.ofSeconds(5));
+            } else {
+                ObserverWait.poll(driver, TARGET, ObserverWait.Mode.VISIBLE, Duration.ofSeconds(5));
+            }
+            long returned = System.currentTimeMillis();
+            long inserted = ((Number) js.executeScript("return window.__inserted")).longValue();
+            latencies.add(returned - inserted);
+        }
+        Collections.sort(latencies);
+        return latencies;
+    }
+
+    private static void print(String engine, List<Long> sorted) {
+        System.out.printf("%-9s n=%d mean %.1f ms, p50 %d ms, p95 %d ms, max %d ms%n", engine, sorted.size(),
+                mean(sorted), percentile(sorted, 50), percentile(sorted, 95), sorted.get(sorted.size() - 1));
+    }
+
+    private static double mean(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.automation.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wait Stats - Counts explicit waits per kind and the time spent in waits that
+ * ended negative (the condition was not met within its budget)
+ * Negative time is pure waste when it comes from probes for optional elements,
+ * so it is the number to watch when tuning wait budgets
+ */
+public final class WaitStats {
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private WaitStats() {
+    }
+
+    /**
+     * Record one finished wait
+     * @param kind wait kind, e.g. "visible", "probe", "absent"
+     * @param nanos time spent waiting
+     * @param positive true if the condition was met
+     */
+    public static void record(String kind, long nanos, boolean positive) {
+        Counter counter = counters.computeIfAbsent(kind, k -> new Counter());
+        if (positive) {
+            counter.positive.increment();
+            counter.positiveNanos.add(nanos);
+        } else {
+            counter.negative.increment();
+            counter.negativeNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Total time spent in waits that ended negative
+     * @return milliseconds
+     */
+    public static double getNegativeWaitMillis() {
+        long nanos = 0;
+        for (Counter counter : counters.values()) {
+            nanos += counter.negativeNanos.sum();
+        }
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Print per-kind counts and time
+     */
+    public static void report() {
+        if (counters.isEmpty()) {
+            return;
+        }
+        System.out.println("=== Wait Stats ===");
+        List<String> kinds = new ArrayList<>(counters.keySet());
+        kinds.sort(null);
+        for (String kind : kinds) {
+            Counter counter = counters.get(kind);
+            System.out.printf("%-10s %5d met in %8.1f ms, %5d negative in %8.1f ms%n", kind,
+                    counter.positive.sum(), counter.positiveNanos.sum() / 1_000_000.0,
+                    counter.negative.sum(), counter.negativeNanos.sum() / 1_000_000.0);
+        }
+        System.out.printf("Time spent in negative waits: %.1f ms%n", getNegativeWaitMillis());
+    }
+
+    private static class Counter {
+        final LongAdder positive = new LongAdder();
+        final LongAdder positiveNanos = new LongAdder();
+        final LongAdder negative = new LongAdder();
+        final LongAdder negativeNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,16 @@
+package com.automation.utils;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Wait Stats Listener - Prints explicit wait counts and the time lost in
+ * negative waits when the suite finishes
+ */
+public class WaitStatsListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        WaitStats.report();
+    }
+}